@@ -89,6 +89,9 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
   // = ConfigurationProvider.CONFIGURATION_PROVIDER.representation(); ?
   static Representation customRepresentation = null;
 
+  // stateless, shared by all assertions to avoid creating one for each assertion
+  private static final AssertionErrorCreator ASSERTION_ERROR_CREATOR = new AssertionErrorCreator();
+
   @VisibleForTesting
   AssertionErrorCreator assertionErrorCreator;
 
@@ -105,7 +108,7 @@ public abstract class AbstractAssert<SELF extends AbstractAssert<SELF, ACTUAL>,
     myself = (SELF) selfType.cast(this);
     this.actual = actual;
     info = new WritableAssertionInfo(customRepresentation);
-    assertionErrorCreator = new AssertionErrorCreator();
+    assertionErrorCreator = ASSERTION_ERROR_CREATOR;
   }
 
   /**
@@ -77,26 +77,31 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
 
   /**
    * the default DateFormat used to parse any String date representation.
+   * <p>
+   * DateFormat is not thread safe, each thread has its own default date formats so that threads parsing dates don't have to
+   * wait for each other.
    */
-  private static List<DateFormat> DEFAULT_DATE_FORMATS = defaultDateFormats();
-  private static boolean lenientParsing = Configuration.LENIENT_DATE_PARSING;
+  private static final ThreadLocal<List<DateFormat>> DEFAULT_DATE_FORMATS = new ThreadLocal<>();
+  private static volatile boolean lenientParsing = Configuration.LENIENT_DATE_PARSING;
 
   @VisibleForTesting
   static List<DateFormat> defaultDateFormats() {
-    if (DEFAULT_DATE_FORMATS == null || defaultDateFormatMustBeRecreated()) {
-      DEFAULT_DATE_FORMATS = list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(lenientParsing),
-                                  newIsoDateTimeWithMsFormat(lenientParsing),
-                                  newTimestampDateFormat(lenientParsing),
-                                  newIsoDateTimeWithIsoTimeZoneFormat(lenientParsing),
-                                  newIsoDateTimeFormat(lenientParsing),
-                                  newIsoDateFormat(lenientParsing));
+    List<DateFormat> defaultDateFormats = DEFAULT_DATE_FORMATS.get();
+    if (defaultDateFormats == null || defaultDateFormatMustBeRecreated(defaultDateFormats)) {
+      defaultDateFormats = list(newIsoDateTimeWithMsAndIsoTimeZoneFormat(lenientParsing),
+                                newIsoDateTimeWithMsFormat(lenientParsing),
+                                newTimestampDateFormat(lenientParsing),
+                                newIsoDateTimeWithIsoTimeZoneFormat(lenientParsing),
+                                newIsoDateTimeFormat(lenientParsing),
+                                newIsoDateFormat(lenientParsing));
+      DEFAULT_DATE_FORMATS.set(defaultDateFormats);
     }
-    return DEFAULT_DATE_FORMATS;
+    return defaultDateFormats;
   }
 
-  private static boolean defaultDateFormatMustBeRecreated() {
+  private static boolean defaultDateFormatMustBeRecreated(List<DateFormat> defaultDateFormats) {
     // check default timezone or lenient flag changes, only check one date format since all are configured the same way
-    DateFormat dateFormat = DEFAULT_DATE_FORMATS.get(0);
+    DateFormat dateFormat = defaultDateFormats.get(0);
     return !dateFormat.getTimeZone().getID().equals(TimeZone.getDefault().getID()) || dateFormat.isLenient() != lenientParsing;
   }
 
@@ -3600,7 +3605,8 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                            info.representation().toStringOf(dateFormatsInOrderOfUsage())));
   }
 
-  private synchronized Date parseDateWithDefaultDateFormats(final String dateAsString) {
+  private Date parseDateWithDefaultDateFormats(final String dateAsString) {
+    // no synchronization needed as the default date formats are thread local
     return parseDateWith(dateAsString, defaultDateFormats());
   }
 
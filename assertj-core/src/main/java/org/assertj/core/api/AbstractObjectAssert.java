@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.description.Description.mostRelevantDescription;
@@ -57,7 +58,8 @@ import org.assertj.core.util.introspection.IntrospectionError;
 public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SELF, ACTUAL>, ACTUAL>
     extends AbstractAssert<SELF, ACTUAL> {
 
-  private Map<String, Comparator<?>> comparatorsByPropertyOrField = new TreeMap<>();
+  // created on the first registered comparator, most object assertions don't register any
+  private Map<String, Comparator<?>> comparatorsByPropertyOrField = emptyMap();
   private TypeComparators comparatorsByType;
 
   public AbstractObjectAssert(ACTUAL actual, Class<?> selfType) {
@@ -543,6 +545,7 @@ public abstract class AbstractObjectAssert<SELF extends AbstractObjectAssert<SEL
    */
   @CheckReturnValue
   public <T> SELF usingComparatorForFields(Comparator<T> comparator, String... propertiesOrFields) {
+    if (comparatorsByPropertyOrField.isEmpty()) comparatorsByPropertyOrField = new TreeMap<>();
     for (String propertyOrField : propertiesOrFields) {
       comparatorsByPropertyOrField.put(propertyOrField, comparator);
     }
@@ -44,7 +44,7 @@ public abstract class AbstractTemporalAssert<SELF extends AbstractTemporalAssert
    */
   protected AbstractTemporalAssert(TEMPORAL actual, Class<?> selfType) {
     super(actual, selfType);
-    comparables = new Comparables();
+    comparables = Comparables.instance();
   }
 
   /**
@@ -130,7 +130,7 @@ public abstract class AbstractTemporalAssert<SELF extends AbstractTemporalAssert
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 }
@@ -57,7 +57,7 @@ public abstract class AbstractUniversalComparableAssert<SELF extends AbstractUni
     extends AbstractObjectAssert<SELF, Comparable<T>> {
 
   @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   protected AbstractUniversalComparableAssert(Comparable<T> actual, Class<?> selfType) {
     super(actual, selfType);
@@ -269,7 +269,7 @@ public abstract class AbstractUniversalComparableAssert<SELF extends AbstractUni
   @Override
   @CheckReturnValue
   public SELF usingDefaultComparator() {
-    this.comparables = new Comparables();
+    this.comparables = Comparables.instance();
     return super.usingDefaultComparator();
   }
 
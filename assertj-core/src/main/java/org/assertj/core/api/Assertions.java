@@ -100,6 +100,7 @@ import org.assertj.core.data.TemporalUnitWithinOffset;
 import org.assertj.core.description.Description;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -1913,6 +1914,38 @@ public class Assertions implements InstanceOfAssertFactories {
     Fail.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets whether assertion errors use lightweight stack traces, this is useful when a lot of assertion errors are
+   * created, soft assertions collecting thousands of failures for example.
+   * <p>
+   * When enabled:
+   * <ul>
+   * <li>if AssertJ related elements are removed from the stack trace (see {@link #setRemoveAssertJRelatedElementsFromStackTrace(boolean)}),
+   * only the first {@link #setMaxStackTraceElementsDisplayed(int) maxStackTraceElementsDisplayed} elements of the user code
+   * are kept, the first one being where the failing assertion was called.</li>
+   * <li>the intermediate errors that AssertJ catches to compute the result of another assertion don't capture any stack trace,
+   * for example the errors thrown by the requirements of {@code anySatisfy} or {@code noneSatisfy}, except the errors
+   * reporting actual and expected values (like {@code isEqualTo} ones) that are kept as they are for IDEs.</li>
+   * </ul>
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setLightweightStackTraces(true);
+   *
+   * // the elements not satisfying the requirements don't capture a stack trace
+   * assertThat(list(1, 2, 3)).anySatisfy(i -&gt; assertThat(i).isGreaterThan(2));
+   *
+   * // the error stack trace starts at this line and is limited to maxStackTraceElementsDisplayed elements
+   * assertThat(1).isEqualTo(2);</code></pre>
+   * <p>
+   * Default is {@value org.assertj.core.configuration.Configuration#LIGHTWEIGHT_STACK_TRACES}.
+   *
+   * @param lightweightStackTraces flag.
+   * @since 3.27.0
+   */
+  public static void setLightweightStackTraces(boolean lightweightStackTraces) {
+    Fail.setLightweightStackTraces(lightweightStackTraces);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
@@ -2062,6 +2095,30 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters of the representation of an iterable, array or map in error messages, default is
+   * {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING}.
+   * <p>
+   * Once the representation reaches this number of characters, the remaining elements are not represented and replaced by
+   * {@code ...}, this limits the time and memory spent describing huge iterables or arrays of long elements.
+   * <p>
+   * The limit is checked before representing each element and elements are never truncated, the representation can thus
+   * exceed the limit by the length of the last represented element.
+   * <p>
+   * Example with a value of {@code 30}:
+   * <pre><code class='java'> String[] greatBooks = array("A Game of Thrones", "The Lord of the Rings", "Assassin's Apprentice");
+   * // formatted as:
+   * ["A Game of Thrones", "The Lord of the Rings", ...]</code></pre>
+   *
+   * @param maxCharactersForPrinting the maximum number of characters of an iterable, array or map representation.
+   * @throws IllegalArgumentException if the given maximum number of characters is not greater than 0.
+   * @since 3.27.0
+   * @see Configuration
+   */
+  public static void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    StandardRepresentation.setMaxCharactersForPrinting(maxCharactersForPrinting);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
@@ -2122,6 +2179,31 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Sets the maximum number of lines of each content compared after their first difference when diffing textual contents
+   * in assertions like {@link AbstractPathAssert#hasSameTextualContentAs(java.nio.file.Path)}, default is
+   * {@value org.assertj.core.configuration.Configuration#MAX_LINES_FOR_CONTENT_DIFF}.
+   * <p>
+   * Contents are first compared line by line without keeping the lines in memory, so that identical contents of any size are
+   * compared in one pass, the lines from the first difference are then read to compute the diff. If a content has more
+   * lines than the maximum, the diff is truncated and the error message mentions from which line the contents were not
+   * compared.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLinesForContentDiff(1000);
+   *
+   * // if the log files differ, at most 1000 lines of each file from the first difference are compared
+   * assertThat(actualLogFile).hasSameTextualContentAs(expectedLogFile);</code></pre>
+   *
+   * @param maxLinesForContentDiff the maximum number of lines of each content compared after their first difference.
+   * @throws IllegalArgumentException if the given maximum number of lines is not greater than 0.
+   * @since 3.27.0
+   * @see Configuration
+   */
+  public static void setMaxLinesForContentDiff(int maxLinesForContentDiff) {
+    Diff.setMaxLinesForContentDiff(maxLinesForContentDiff);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -29,7 +29,7 @@ import org.assertj.core.util.VisibleForTesting;
 public class AtomicLongAssert extends AbstractAssert<AtomicLongAssert, AtomicLong> {
 
   @VisibleForTesting
-  Comparables comparables = new Comparables();
+  Comparables comparables = Comparables.instance();
 
   @VisibleForTesting
   Longs longs = Longs.instance();
@@ -12,12 +12,18 @@
  */
 package org.assertj.core.api;
 
-import static java.util.Collections.synchronizedList;
+import static java.lang.String.format;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.assertj.core.util.Throwables;
 
@@ -26,9 +32,14 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   // Marking this field as volatile doesn't ensure complete thread safety
   // (mutual exclusion, race-free behavior), but guarantees eventual visibility
   private volatile boolean wasSuccess = true;
-  private final List<AssertionError> collectedAssertionErrors = synchronizedList(new ArrayList<>());
+  // errors are only appended and read when reporting them, no need to lock on each collected error
+  private final Queue<AssertionError> collectedAssertionErrors = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger retainedAssertionErrorsCount = new AtomicInteger();
+  private final LongAdder suppressedAssertionErrorsCount = new LongAdder();
+  private volatile int maxRetainedAssertionErrors = Integer.MAX_VALUE;
 
-  private final List<AfterAssertionErrorCollected> callbacks = synchronizedList(new ArrayList<>());
+  // callbacks are registered once and notified for every collected error
+  private final List<AfterAssertionErrorCollected> callbacks = new CopyOnWriteArrayList<>();
 
   private AssertionErrorCollector delegate = null;
 
@@ -53,7 +64,8 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public void collectAssertionError(AssertionError error) {
     if (delegate == null) {
-      collectedAssertionErrors.add(error);
+      if (reserveRetainedAssertionError()) collectedAssertionErrors.add(error);
+      else suppressedAssertionErrorsCount.increment();
       wasSuccess = false;
     } else {
       delegate.collectAssertionError(error);
@@ -61,10 +73,22 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
     callbacks.forEach(callback -> callback.onAssertionErrorCollected(error));
   }
 
+  private boolean reserveRetainedAssertionError() {
+    int retained;
+    do {
+      retained = retainedAssertionErrorsCount.get();
+      if (retained >= maxRetainedAssertionErrors) return false;
+    } while (!retainedAssertionErrorsCount.compareAndSet(retained, retained + 1));
+    return true;
+  }
+
   /**
    * Returns a list of soft assertions collected errors. If a delegate
    * has been set (see {@link #setDelegate(AssertionErrorCollector) setDelegate()},
    * then this method will return the result of the delegate's {@code assertErrorsCollected()}.
+   * <p>
+   * If some errors were not retained (see {@link #setMaxRetainedAssertionErrors(int)}), the last error of the list
+   * reports how many were suppressed.
    *
    * @return A list of soft assertions collected errors.
    */
@@ -72,10 +96,70 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   public List<AssertionError> assertionErrorsCollected() {
     List<AssertionError> errors = delegate != null
         ? delegate.assertionErrorsCollected()
-        : unmodifiableList(collectedAssertionErrors);
+        : unmodifiableList(retainedAssertionErrors());
     return decorateErrorsCollected(errors);
   }
 
+  private List<AssertionError> retainedAssertionErrors() {
+    List<AssertionError> errors = new ArrayList<>(collectedAssertionErrors);
+    long suppressedErrorsCount = suppressedAssertionErrorsCount();
+    if (suppressedErrorsCount > 0) errors.add(suppressedAssertionErrors(suppressedErrorsCount));
+    return errors;
+  }
+
+  private AssertionError suppressedAssertionErrors(long suppressedErrorsCount) {
+    String message = format("%s more failures suppressed, only the first %s assertion errors were retained",
+                            suppressedErrorsCount, maxRetainedAssertionErrors);
+    AssertionError suppressedAssertionErrors = new AssertionError(message);
+    // no stack trace, it would point to where the errors are reported and not to any failing assertion
+    suppressedAssertionErrors.setStackTrace(new StackTraceElement[0]);
+    return suppressedAssertionErrors;
+  }
+
+  /**
+   * Sets how many assertion errors are retained at most, the following ones are counted but not kept and
+   * {@link #assertionErrorsCollected()} reports how many were suppressed instead.
+   * <p>
+   * This limits the memory used when a lot of soft assertions fail, each error holding its message and stack trace.
+   * <p>
+   * Callbacks (see {@link #addAfterAssertionErrorCollected(AfterAssertionErrorCollected)}) are notified of every error,
+   * retained or not.
+   * <p>
+   * Example:
+   * <pre><code class='java'> SoftAssertions softly = new SoftAssertions();
+   * softly.setMaxRetainedAssertionErrors(2);
+   *
+   * softly.assertThat(1).isEqualTo(2);
+   * softly.assertThat(1).isEqualTo(3);
+   * softly.assertThat(1).isEqualTo(4);
+   * softly.assertThat(1).isEqualTo(5);
+   *
+   * // fails reporting the first two errors followed by "2 more failures suppressed, ..."
+   * softly.assertAll();</code></pre>
+   * <p>
+   * Default is {@link Integer#MAX_VALUE}, i.e. all errors are retained.
+   *
+   * @param maxRetainedAssertionErrors the maximum number of assertion errors to retain, must be positive.
+   * @throws IllegalArgumentException if {@code maxRetainedAssertionErrors} is less than 1.
+   * @since 3.27.0
+   */
+  public void setMaxRetainedAssertionErrors(int maxRetainedAssertionErrors) {
+    checkArgument(maxRetainedAssertionErrors > 0, "maxRetainedAssertionErrors must be > 0, but was %s",
+                  maxRetainedAssertionErrors);
+    this.maxRetainedAssertionErrors = maxRetainedAssertionErrors;
+  }
+
+  /**
+   * Returns how many collected assertion errors were not retained because the maximum number of retained assertion errors
+   * was reached (see {@link #setMaxRetainedAssertionErrors(int)}).
+   *
+   * @return how many collected assertion errors were not retained.
+   * @since 3.27.0
+   */
+  public long suppressedAssertionErrorsCount() {
+    return suppressedAssertionErrorsCount.sum();
+  }
+
   /**
    * Same as {@link DefaultAssertionErrorCollector#addAfterAssertionErrorCollected(AfterAssertionErrorCollected)}, but
    * also removes all previously added callbacks.
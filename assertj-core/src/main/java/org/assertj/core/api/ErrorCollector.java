@@ -16,6 +16,8 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
+
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
@@ -72,6 +74,8 @@ public class ErrorCollector {
   }
 
   private void addError(AssertionError error) {
+    // the error may have been created as an intermediate failure (soft assertion nested in anySatisfy for example)
+    Failures.instance().captureStackTraceIfDeferred(error);
     assertionErrorCollector.collectAssertionError(error);
   }
 
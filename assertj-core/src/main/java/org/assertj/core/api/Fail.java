@@ -33,6 +33,16 @@ public final class Fail {
     Failures.instance().setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets whether assertion errors use lightweight stack traces.
+   *
+   * @param lightweightStackTraces flag.
+   * @since 3.27.0
+   */
+  public static void setLightweightStackTraces(boolean lightweightStackTraces) {
+    Failures.instance().setLightweightStackTraces(lightweightStackTraces);
+  }
+
   /**
    * Throws an {@link AssertionError} with the given message.
    *
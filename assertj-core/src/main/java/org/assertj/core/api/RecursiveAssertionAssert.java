@@ -404,4 +404,32 @@ public class RecursiveAssertionAssert extends AbstractAssert<RecursiveAssertionA
     recursiveAssertionConfiguration.setIntrospectionStrategy(introspectionStrategy);
     return this;
   }
+
+  /**
+   * Evaluates the predicate over independent parts of the object graph (collection elements, map values, sibling fields)
+   * in parallel using the given number of threads, this is meant to speed up the assertion of very large object graphs.
+   * <p>
+   * The reported failing fields are the same as the ones reported by the default sequential assertion. Objects shared by
+   * independent parts are only evaluated once, but if a shared object is reached by a part other than the one the
+   * sequential assertion would evaluate it in, the parts involved are asserted again sequentially to preserve that
+   * guarantee, the predicate is thus called again for their objects.
+   * <p>
+   * The predicate and introspection strategy must be thread safe as they are called concurrently.
+   * <p>
+   * Example:
+   * <pre><code class='java'> OrderBook orderBook = loadOrderBookSnapshot();
+   *
+   * assertThat(orderBook).usingRecursiveAssertion()
+   *                      .withParallelism(Runtime.getRuntime().availableProcessors())
+   *                      .hasNoNullFields();</code></pre>
+   *
+   * @param parallelism the number of threads used to assert the object graph, 1 means a sequential assertion.
+   * @return this {@link RecursiveAssertionAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+   * @since 3.27.0
+   */
+  public RecursiveAssertionAssert withParallelism(int parallelism) {
+    recursiveAssertionConfiguration.setParallelism(parallelism);
+    return this;
+  }
 }
@@ -205,8 +205,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
                                                                                                                     recursiveComparisonConfiguration,
                                                                                                                     info.representation()));
     if (other != null && actual != null) {
-      List<ComparisonDifference> differences = determineDifferencesWith(other);
-      if (differences.isEmpty())
+      // a single difference is enough to pass, no need to look for others
+      if (recursiveComparisonDifferenceCalculator.areEqual(actual, other, recursiveComparisonConfiguration))
         throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                    recursiveComparisonConfiguration,
                                                                                                    info.representation()));
@@ -1805,6 +1805,80 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Compares independent parts of the object graphs (collection elements, map values, sibling fields) in parallel using the
+   * given number of threads, this is meant to speed up the comparison of very large object graphs.
+   * <p>
+   * The reported differences are the same as the ones reported by the default sequential comparison, if the compared
+   * parts turn out to share objects the comparison is done sequentially again to preserve that guarantee.
+   * Parallel comparison is not used when {@link #comparingOnlyFieldsOfTypes(Class[]) comparing only fields of some types}.
+   * <p>
+   * Custom comparators, equals predicates and introspection strategies must be thread safe as they are called concurrently.
+   * <p>
+   * Example:
+   * <pre><code class='java'> OrderBook actual = loadOrderBookSnapshot();
+   * OrderBook expected = loadReferenceOrderBookSnapshot();
+   *
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withParallelism(Runtime.getRuntime().availableProcessors())
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare the object graphs, 1 means a sequential comparison.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
+  /**
+   * Stops the recursive comparison once it has found the given number of differences, this avoids walking the rest of
+   * large object graphs and reporting differences nobody is going to read when they turn out to be very different.
+   * <p>
+   * The reported differences are the first ones found when traversing the object graphs. When the comparison stops
+   * because it has found the given number of differences, the error message states it and that other differences may
+   * have not been reported, it does not when fewer differences were found.
+   * <p>
+   * Elements of unordered collections are still fully compared to find which actual element matches an expected one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Person sherlock = new Person("Sherlock", 1.80);
+   * sherlock.home.address.street = "Baker Street";
+   * sherlock.home.address.number = 221;
+   *
+   * Person moriarty = new Person("Moriarty", 1.75);
+   * moriarty.home.address.street = "Crime Street";
+   * moriarty.home.address.number = 1;
+   *
+   * // fails reporting only one of the four differences
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .withMaxDifferences(1)
+   *                     .isEqualTo(moriarty);</code></pre>
+   *
+   * @param maxDifferences the number of differences after which the comparison stops, must be greater than 0.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given maximum number of differences is not greater than 0.
+   */
+  @CheckReturnValue
+  public SELF withMaxDifferences(int maxDifferences) {
+    recursiveComparisonConfiguration.setMaxDifferences(maxDifferences);
+    return myself;
+  }
+
+  /**
+   * Stops the recursive comparison at the first difference found, this is a shortcut for {@code withMaxDifferences(1)}.
+   * <p>
+   * See {@link #withMaxDifferences(int)} for more details.
+   *
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   */
+  @CheckReturnValue
+  public SELF stoppingAtFirstDifference() {
+    return withMaxDifferences(1);
+  }
+
   SELF withTypeComparators(TypeComparators typeComparators) {
     Optional.ofNullable(typeComparators)
             .map(TypeComparators::comparatorByTypes)
@@ -2299,6 +2299,18 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTrace);
   }
 
+  /**
+   * Sets whether assertion errors use lightweight stack traces.
+   * <p>
+   * See {@link Assertions#setLightweightStackTraces(boolean)} for a detailed description.
+   *
+   * @param lightweightStackTraces flag.
+   * @since 3.27.0
+   */
+  default void setLightweightStackTraces(final boolean lightweightStackTraces) {
+    Assertions.setLightweightStackTraces(lightweightStackTraces);
+  }
+
   /**
    * Throws an {@link AssertionError} with a message explaining that a {@link Throwable} of given class was expected to be thrown
    * but had not been.
@@ -2381,6 +2393,30 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting);
   }
 
+  /**
+   * Sets the maximum number of characters of the representation of an iterable, array or map in error messages, default is
+   * {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING}.
+   * <p>
+   * Once the representation reaches this number of characters, the remaining elements are not represented and replaced by
+   * {@code ...}, this limits the time and memory spent describing huge iterables or arrays of long elements.
+   * <p>
+   * The limit is checked before representing each element and elements are never truncated, the representation can thus
+   * exceed the limit by the length of the last represented element.
+   * <p>
+   * Example with a value of {@code 30}:
+   * <pre><code class='java'> String[] greatBooks = array("A Game of Thrones", "The Lord of the Rings", "Assassin's Apprentice");
+   * // formatted as:
+   * ["A Game of Thrones", "The Lord of the Rings", ...]</code></pre>
+   *
+   * @param maxCharactersForPrinting the maximum number of characters of an iterable, array or map representation.
+   * @throws IllegalArgumentException if the given maximum number of characters is not greater than 0.
+   * @since 3.27.0
+   * @see Configuration
+   */
+  default void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    Assertions.setMaxCharactersForPrinting(maxCharactersForPrinting);
+  }
+
   /**
    * Sets how many stacktrace elements are included in {@link Throwable} representation (by default this set to 3).
    * <p>
@@ -2413,6 +2449,31 @@ public interface WithAssertions extends InstanceOfAssertFactories {
     StandardRepresentation.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Sets the maximum number of lines of each content compared after their first difference when diffing textual contents
+   * in assertions like {@link AbstractPathAssert#hasSameTextualContentAs(java.nio.file.Path)}, default is
+   * {@value org.assertj.core.configuration.Configuration#MAX_LINES_FOR_CONTENT_DIFF}.
+   * <p>
+   * Contents are first compared line by line without keeping the lines in memory, so that identical contents of any size are
+   * compared in one pass, the lines from the first difference are then read to compute the diff. If a content has more
+   * lines than the maximum, the diff is truncated and the error message mentions from which line the contents were not
+   * compared.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLinesForContentDiff(1000);
+   *
+   * // if the log files differ, at most 1000 lines of each file from the first difference are compared
+   * assertThat(actualLogFile).hasSameTextualContentAs(expectedLogFile);</code></pre>
+   *
+   * @param maxLinesForContentDiff the maximum number of lines of each content compared after their first difference.
+   * @throws IllegalArgumentException if the given maximum number of lines is not greater than 0.
+   * @since 3.27.0
+   * @see Configuration
+   */
+  default void setMaxLinesForContentDiff(int maxLinesForContentDiff) {
+    Assertions.setMaxLinesForContentDiff(maxLinesForContentDiff);
+  }
+
   /**
    * Enable/disable printing assertions description to the console (disabled by default).
    * <p>
@@ -15,28 +15,36 @@ package org.assertj.core.api.recursive;
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.recursive.ChangeNotifyingCollections.changeNotifyingList;
+import static org.assertj.core.api.recursive.ChangeNotifyingCollections.changeNotifyingSet;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
 import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.api.recursive.comparison.FieldPathTrie;
 import org.assertj.core.util.Strings;
 
 public abstract class AbstractRecursiveOperationConfiguration {
 
   protected static final String DEFAULT_DELIMITER = ", ";
 
-  private final Set<String> ignoredFields = new LinkedHashSet<>();
-  private final List<Pattern> ignoredFieldsRegexes = new ArrayList<>();
+  // any change to the ignored fields and regexes, including through the getters, discards the compiled ignoredFieldsRules
+  private final Set<String> ignoredFields = changeNotifyingSet(new LinkedHashSet<>(), this::discardIgnoredFieldsRules);
+  private final List<Pattern> ignoredFieldsRegexes = changeNotifyingList(new ArrayList<>(), this::discardIgnoredFieldsRules);
   private final Set<Class<?>> ignoredTypes = new LinkedHashSet<>();
   private final List<Pattern> ignoredTypesRegexes = new ArrayList<>();
+  // ignored fields and regexes compiled to be evaluated efficiently on each field location, reset when they change
+  private volatile IgnoredFieldsRules ignoredFieldsRules;
 
   protected AbstractRecursiveOperationConfiguration(AbstractBuilder<?> builder) {
     ignoreFields(builder.ignoredFields);
@@ -186,12 +194,25 @@ public abstract class AbstractRecursiveOperationConfiguration {
 
   public boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFieldsRegexes().stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
+    return ignoredFieldsRules().matchesAnIgnoredFieldRegex(fieldLocation);
   }
 
   public boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
     // checks parent fields as if a parent field is ignored all subfields (including this field location) should be too.
-    return getIgnoredFields().stream().anyMatch(fieldLocation::hierarchyMatches);
+    return ignoredFieldsRules().matchesAnIgnoredField(fieldLocation);
+  }
+
+  private IgnoredFieldsRules ignoredFieldsRules() {
+    IgnoredFieldsRules rules = ignoredFieldsRules;
+    if (rules == null) {
+      rules = new IgnoredFieldsRules(ignoredFields, ignoredFieldsRegexes);
+      ignoredFieldsRules = rules;
+    }
+    return rules;
+  }
+
+  private void discardIgnoredFieldsRules() {
+    ignoredFieldsRules = null;
   }
 
   private String describeIgnoredFields() {
@@ -253,6 +274,39 @@ public abstract class AbstractRecursiveOperationConfiguration {
     }
   }
 
+  // ignored fields are checked all at once with a trie, regexes can't be combined that way so the regexes decision is
+  // memoized by path to use in rules which is shared by many field locations (for example all the elements of a collection).
+  private static final class IgnoredFieldsRules {
+
+    private static final int MAX_MEMOIZED_REGEXES_DECISIONS = 10_000;
+
+    private final FieldPathTrie ignoredFieldsTrie;
+    private final List<Pattern> ignoredFieldsRegexes;
+    private final Map<String, Boolean> regexesDecisionByPath = new ConcurrentHashMap<>();
+
+    private IgnoredFieldsRules(Set<String> ignoredFields, List<Pattern> ignoredFieldsRegexes) {
+      // an empty field path is never matched, it is not added as it would otherwise match paths starting with '.'
+      ignoredFieldsTrie = new FieldPathTrie(ignoredFields.stream().filter(field -> !field.isEmpty()).collect(toList()));
+      this.ignoredFieldsRegexes = new ArrayList<>(ignoredFieldsRegexes);
+    }
+
+    private boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
+      return ignoredFieldsTrie.hierarchyMatchesAny(fieldLocation);
+    }
+
+    private boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
+      if (ignoredFieldsRegexes.isEmpty()) return false;
+      String path = fieldLocation.getPathToUseInRules();
+      Boolean matches = regexesDecisionByPath.get(path);
+      if (matches == null) {
+        matches = ignoredFieldsRegexes.stream().anyMatch(fieldLocation::hierarchyMatchesRegex);
+        // bounded as paths can be unlimited, for example when map keys are part of them
+        if (regexesDecisionByPath.size() < MAX_MEMOIZED_REGEXES_DECISIONS) regexesDecisionByPath.put(path, matches);
+      }
+      return matches;
+    }
+  }
+
   private static List<Pattern> toPatterns(String[] regexes) {
     return Stream.of(regexes)
                  .map(Pattern::compile)
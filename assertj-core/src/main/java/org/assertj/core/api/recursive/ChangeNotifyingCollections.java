@@ -0,0 +1,162 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api.recursive;
+
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Collections running a callback whenever they are changed, used by the recursive operations configurations to discard
+ * the rules compiled from their fields when these fields change, including through the collections returned by getters.
+ */
+public final class ChangeNotifyingCollections {
+
+  private ChangeNotifyingCollections() {}
+
+  /**
+   * Returns a view of the given set that runs the given callback after each change made through it.
+   *
+   * @param <E> the type of the set elements.
+   * @param set the set to change through the returned view.
+   * @param onChange the callback to run after each change.
+   * @return a view of the given set.
+   */
+  public static <E> Set<E> changeNotifyingSet(Set<E> set, Runnable onChange) {
+    return new ChangeNotifyingSet<>(set, onChange);
+  }
+
+  /**
+   * Returns a view of the given list that runs the given callback after each change made through it.
+   *
+   * @param <E> the type of the list elements.
+   * @param list the list to change through the returned view.
+   * @param onChange the callback to run after each change.
+   * @return a view of the given list.
+   */
+  public static <E> List<E> changeNotifyingList(List<E> list, Runnable onChange) {
+    return new ChangeNotifyingList<>(list, onChange);
+  }
+
+  // the other changing methods (addAll, removeAll, removeIf ...) are implemented by AbstractSet with the ones below
+  private static final class ChangeNotifyingSet<E> extends AbstractSet<E> {
+
+    private final Set<E> set;
+    private final Runnable onChange;
+
+    private ChangeNotifyingSet(Set<E> set, Runnable onChange) {
+      this.set = set;
+      this.onChange = onChange;
+    }
+
+    @Override
+    public int size() {
+      return set.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+      return set.contains(o);
+    }
+
+    @Override
+    public boolean add(E e) {
+      boolean added = set.add(e);
+      if (added) onChange.run();
+      return added;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+      boolean removed = set.remove(o);
+      if (removed) onChange.run();
+      return removed;
+    }
+
+    @Override
+    public void clear() {
+      set.clear();
+      onChange.run();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+      Iterator<E> iterator = set.iterator();
+      return new Iterator<E>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+          return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+          onChange.run();
+        }
+      };
+    }
+  }
+
+  // the other changing methods (add, addAll, iterators, subList ...) are implemented by AbstractList with the ones below
+  private static final class ChangeNotifyingList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> list;
+    private final Runnable onChange;
+
+    private ChangeNotifyingList(List<E> list, Runnable onChange) {
+      this.list = list;
+      this.onChange = onChange;
+    }
+
+    @Override
+    public int size() {
+      return list.size();
+    }
+
+    @Override
+    public E get(int index) {
+      return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+      E previous = list.set(index, element);
+      onChange.run();
+      return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+      list.add(index, element);
+      modCount++;
+      onChange.run();
+    }
+
+    @Override
+    public E remove(int index) {
+      E removed = list.remove(index);
+      modCount++;
+      onChange.run();
+      return removed;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api.recursive;
+
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent parts of recursive comparisons and assertions in parallel.
+ * <p>
+ * Each call uses its own {@link ForkJoinPool} which is shut down once the tasks are done, no threads are kept between
+ * recursive operations.
+ */
+public final class ParallelRecursiveOperations {
+
+  private ParallelRecursiveOperations() {}
+
+  /**
+   * Runs the given tasks on a {@link ForkJoinPool} of the given parallelism and waits for all of them to complete.
+   * <p>
+   * If some tasks fail, the exception of the first failing task (in the given tasks order) is rethrown, as if the tasks
+   * had been run sequentially.
+   *
+   * @param tasks the tasks to run.
+   * @param parallelism the number of threads used to run the tasks.
+   */
+  public static void runInParallel(List<Runnable> tasks, int parallelism) {
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+    List<Future<?>> futures = list();
+    try {
+      for (Runnable task : tasks) {
+        futures.add(forkJoinPool.submit(task));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      futures.forEach(future -> future.cancel(true));
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new IllegalStateException(cause);
+    } catch (InterruptedException e) {
+      futures.forEach(future -> future.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while running a recursive operation in parallel", e);
+    } finally {
+      forkJoinPool.shutdownNow();
+    }
+  }
+}
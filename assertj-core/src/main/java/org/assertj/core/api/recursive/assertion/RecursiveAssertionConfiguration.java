@@ -17,6 +17,7 @@ import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfigu
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_VALUES_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_VALUE_ONLY;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.Collection;
 import java.util.Objects;
@@ -41,6 +42,7 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
   private OptionalAssertionPolicy optionalAssertionPolicy;
   private boolean ignoreAllNullFields;
   private RecursiveAssertionIntrospectionStrategy introspectionStrategy;
+  private int parallelism;
 
   private RecursiveAssertionConfiguration(Builder builder) {
     super(builder);
@@ -51,6 +53,7 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     this.optionalAssertionPolicy = builder.optionalAssertionPolicy;
     this.ignoreAllNullFields = builder.ignoreAllNullFields;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
   }
 
   /**
@@ -167,6 +170,21 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     this.introspectionStrategy = introspectionStrategy;
   }
 
+  /**
+   * Sets the number of threads used to assert independent parts of the object graph (collection elements, map values,
+   * sibling fields), the default is 1 meaning the assertion is done sequentially in the calling thread.
+   * <p>
+   * See {@link RecursiveAssertionAssert#withParallelism(int)} for more details.
+   *
+   * @param parallelism the number of threads used in the recursive assertion, must be greater than 0.
+   * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+   * @since 3.27.0
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
   @Override
   public String toString() {
     CONFIGURATION_PROVIDER.representation();
@@ -181,6 +199,7 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     describeMapAssertionPolicy(description);
     describeOptionalAssertionPolicy(description);
     describeIntrospectionStrategy(description);
+    describeParallelism(description);
     return description.toString();
   }
 
@@ -208,6 +227,10 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     return introspectionStrategy;
   }
 
+  int getParallelism() {
+    return parallelism;
+  }
+
   boolean shouldIgnoreMap() {
     return mapAssertionPolicy == MAP_VALUES_ONLY;
   }
@@ -261,6 +284,11 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     description.append(format("- the introspection strategy used was: %s%n", introspectionStrategy.getDescription()));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append(format("- independent parts of the object graph were asserted in parallel using %s threads%n", parallelism));
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -273,14 +301,15 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
            && shouldSkipJavaLibraryTypeObjects() == that.shouldSkipJavaLibraryTypeObjects()
            && getCollectionAssertionPolicy() == that.getCollectionAssertionPolicy()
            && getOptionalAssertionPolicy() == that.getOptionalAssertionPolicy()
-           && getMapAssertionPolicy() == that.getMapAssertionPolicy();
+           && getMapAssertionPolicy() == that.getMapAssertionPolicy()
+           && getParallelism() == that.getParallelism();
   }
 
   @Override
   public int hashCode() {
     return Objects.hash(shouldIgnoreAllNullFields(), getIgnoredFields(), getIgnoredFieldsRegexes(), getIgnoredTypes(),
                         shouldIgnorePrimitiveFields(), shouldSkipJavaLibraryTypeObjects(), getCollectionAssertionPolicy(),
-                        getOptionalAssertionPolicy(), getMapAssertionPolicy());
+                        getOptionalAssertionPolicy(), getMapAssertionPolicy(), getParallelism());
   }
 
   /**
@@ -303,6 +332,7 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
     private OptionalAssertionPolicy optionalAssertionPolicy = OPTIONAL_VALUE_ONLY;
     private boolean ignoreAllNullFields;
     private RecursiveAssertionIntrospectionStrategy introspectionStrategy = new DefaultRecursiveAssertionIntrospectionStrategy();
+    private int parallelism = 1;
 
     private Builder() {
       super(Builder.class);
@@ -569,6 +599,23 @@ public class RecursiveAssertionConfiguration extends AbstractRecursiveOperationC
       return this;
     }
 
+    /**
+     * Sets the number of threads used to assert independent parts of the object graph (collection elements, map values,
+     * sibling fields), the default is 1 meaning the assertion is done sequentially in the calling thread.
+     * <p>
+     * See {@link RecursiveAssertionAssert#withParallelism(int)} for more details.
+     *
+     * @param parallelism the number of threads used in the recursive assertion, must be greater than 0.
+     * @return This builder.
+     * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+     * @since 3.27.0
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
     public RecursiveAssertionConfiguration build() {
       return new RecursiveAssertionConfiguration(this);
     }
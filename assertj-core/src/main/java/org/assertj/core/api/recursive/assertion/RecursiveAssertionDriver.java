@@ -13,18 +13,21 @@
 package org.assertj.core.api.recursive.assertion;
 
 import static java.lang.String.format;
+import static java.lang.System.identityHashCode;
+import static java.util.Collections.newSetFromMap;
 import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.recursive.ParallelRecursiveOperations.runInParallel;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.CollectionAssertionPolicy.COLLECTION_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_AND_ENTRIES;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.MapAssertionPolicy.MAP_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration.OptionalAssertionPolicy.OPTIONAL_OBJECT_ONLY;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.ClassUtils.isOptionalOrPrimitiveOptional;
 import static org.assertj.core.util.introspection.ClassUtils.isPrimitiveOrWrapper;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,6 +35,7 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.assertj.core.api.recursive.comparison.FieldLocation;
@@ -43,25 +47,126 @@ public class RecursiveAssertionDriver {
   private static final String INDEX_FORMAT = "[%d]";
   private static final String KEY_FORMAT = "KEY[%s]";
   private static final String VALUE_FORMAT = "VAL[%s]";
+  private static final int SUBTREES_PER_THREAD = 4;
 
-  private final Set<String> visitedNodeIds = newHashSet();
+  // visited nodes are tracked by identity, not by equals nor by identity hash code which can collide
+  private final Set<Object> visitedNodes = newSetFromMap(new IdentityHashMap<>());
   private final List<FieldLocation> fieldsFailingTheAssertion = list();
   private final RecursiveAssertionConfiguration configuration;
+  // only set when asserting subtrees in parallel, see assertInParallel
+  private final Set<Object> nodesVisitedBefore;
+  private final Set<NodeIdentity> nodesClaimedBySubtrees;
+  private final Set<Object> nodesClaimedByOtherSubtrees;
+  // when not null, child nodes are collected instead of being asserted
+  private List<ChildNode> childNodesToCollect;
 
   public RecursiveAssertionDriver(RecursiveAssertionConfiguration configuration) {
     this.configuration = configuration;
+    this.nodesVisitedBefore = null;
+    this.nodesClaimedBySubtrees = null;
+    this.nodesClaimedByOtherSubtrees = null;
+  }
+
+  private RecursiveAssertionDriver(RecursiveAssertionConfiguration configuration, Set<Object> nodesVisitedBefore,
+                                   Set<NodeIdentity> nodesClaimedBySubtrees) {
+    this.configuration = configuration;
+    this.nodesVisitedBefore = nodesVisitedBefore;
+    this.nodesClaimedBySubtrees = nodesClaimedBySubtrees;
+    this.nodesClaimedByOtherSubtrees = newSetFromMap(new IdentityHashMap<>());
   }
 
   public List<FieldLocation> assertOverObjectGraph(Predicate<Object> predicate, Object graphNode) {
-    assertRecursively(predicate, graphNode, graphNode.getClass(), rootFieldLocation());
+    if (configuration.getParallelism() > 1) {
+      assertInParallel(predicate, graphNode);
+    } else {
+      assertRecursively(predicate, graphNode, graphNode.getClass(), rootFieldLocation());
+    }
     return fieldsFailingTheAssertion.stream().sorted().collect(toList());
   }
 
   public void reset() {
-    visitedNodeIds.clear();
+    visitedNodes.clear();
     fieldsFailingTheAssertion.clear();
   }
 
+  /**
+   * Asserts the first nodes sequentially until the graph forks into several subtrees, then asserts groups of consecutive
+   * subtrees in parallel.
+   * <p>
+   * The groups share the nodes they claim so that a node reached by several groups is only evaluated once, by the group
+   * claiming it first, the others skip it as if it had already been visited. The failing fields must not depend on which
+   * group wins the race though: the sequential assertion evaluates a shared node in the first group (in subtrees order)
+   * reaching it. Once all groups are done, we go through them in order and keep the results of a group only if it visited
+   * exactly the nodes the sequential assertion would have, that is it skipped the nodes visited by the previous groups and
+   * only them. The groups that did not are asserted again sequentially, which typically only concerns the group that
+   * should have evaluated a shared node and the one that took it.
+   */
+  private void assertInParallel(Predicate<Object> predicate, Object graphNode) {
+    List<ChildNode> subtreeRoots = collectChildNodes(predicate, new ChildNode(graphNode, graphNode.getClass(), rootFieldLocation()));
+    // nothing to parallelize until the graph forks
+    while (subtreeRoots.size() == 1) {
+      subtreeRoots = collectChildNodes(predicate, subtreeRoots.get(0));
+    }
+    if (subtreeRoots.isEmpty()) return;
+
+    // consecutive subtrees are grouped so that we don't create a driver per element of a huge collection, having more
+    // groups than threads balances the work when subtrees have different sizes
+    int parallelism = configuration.getParallelism();
+    int subtreesGroupSize = (subtreeRoots.size() + SUBTREES_PER_THREAD * parallelism - 1) / (SUBTREES_PER_THREAD * parallelism);
+    Set<NodeIdentity> nodesClaimedBySubtrees = ConcurrentHashMap.newKeySet();
+    List<RecursiveAssertionDriver> subtreesDrivers = list();
+    List<List<ChildNode>> subtreesGroups = list();
+    List<Runnable> subtreesAssertions = list();
+    for (int i = 0; i < subtreeRoots.size(); i += subtreesGroupSize) {
+      RecursiveAssertionDriver subtreesDriver = new RecursiveAssertionDriver(configuration, visitedNodes, nodesClaimedBySubtrees);
+      List<ChildNode> subtreesGroup = subtreeRoots.subList(i, Math.min(i + subtreesGroupSize, subtreeRoots.size()));
+      subtreesDrivers.add(subtreesDriver);
+      subtreesGroups.add(subtreesGroup);
+      subtreesAssertions.add(() -> subtreesDriver.assertSubtrees(predicate, subtreesGroup));
+    }
+    // rethrows the exception of the first failing group as the sequential assertion would
+    runInParallel(subtreesAssertions, parallelism);
+
+    // visitedNodes now holds the nodes visited before the graph forked, each group adds the ones it visited
+    for (int i = 0; i < subtreesDrivers.size(); i++) {
+      RecursiveAssertionDriver subtreesDriver = subtreesDrivers.get(i);
+      if (subtreesDriver.visitedNodesAsSequentially(visitedNodes)) {
+        visitedNodes.addAll(subtreesDriver.visitedNodes);
+        fieldsFailingTheAssertion.addAll(subtreesDriver.fieldsFailingTheAssertion);
+      } else {
+        assertSubtrees(predicate, subtreesGroups.get(i));
+      }
+    }
+  }
+
+  /**
+   * Returns whether this subtrees driver walked its subtrees as the sequential assertion would after visiting the given
+   * nodes: the nodes it skipped because another group had claimed them must be part of the given nodes and the nodes it
+   * evaluated must not. As the walk only depends on which nodes are skipped, it is then the same as the sequential one.
+   */
+  private boolean visitedNodesAsSequentially(Set<Object> nodesVisitedSequentially) {
+    for (Object node : visitedNodes) {
+      if (nodesClaimedByOtherSubtrees.contains(node) != nodesVisitedSequentially.contains(node)) return false;
+    }
+    return true;
+  }
+
+  private List<ChildNode> collectChildNodes(Predicate<Object> predicate, ChildNode node) {
+    childNodesToCollect = list();
+    try {
+      assertRecursively(predicate, node.node, node.nodeType, node.fieldLocation);
+      return childNodesToCollect;
+    } finally {
+      childNodesToCollect = null;
+    }
+  }
+
+  private void assertSubtrees(Predicate<Object> predicate, List<ChildNode> subtreeRoots) {
+    for (ChildNode subtreeRoot : subtreeRoots) {
+      assertRecursively(predicate, subtreeRoot.node, subtreeRoot.nodeType, subtreeRoot.fieldLocation);
+    }
+  }
+
   private void assertRecursively(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
     if (nodeMustBeIgnored(node, nodeType, fieldLocation)) return;
 
@@ -74,6 +179,14 @@ public class RecursiveAssertionDriver {
     recurseIntoFieldsOfCurrentNode(predicate, node, nodeType, fieldLocation);
   }
 
+  private void assertChildNode(Predicate<Object> predicate, Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+    if (childNodesToCollect != null) {
+      childNodesToCollect.add(new ChildNode(node, nodeType, fieldLocation));
+    } else {
+      assertRecursively(predicate, node, nodeType, fieldLocation);
+    }
+  }
+
   private boolean nodeMustBeIgnored(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
     return isNullWhichAreIgnored(node)
            || isPrimitiveWhichAreIgnored(nodeType)
@@ -159,7 +272,7 @@ public class RecursiveAssertionDriver {
     }
     int index = 0;
     for (Object element : collection) {
-      assertRecursively(predicate, element, safeGetClass(element), fieldLocation.field(format(INDEX_FORMAT, index)));
+      assertChildNode(predicate, element, safeGetClass(element), fieldLocation.field(format(INDEX_FORMAT, index)));
       index++;
     }
   }
@@ -171,7 +284,7 @@ public class RecursiveAssertionDriver {
     Class<?> arrayType = nodeType.getComponentType();
     Object[] array = Arrays.asObjectArray(node);
     for (int i = 0; i < array.length; i++) {
-      assertRecursively(predicate, array[i], arrayType, fieldLocation.field(format(INDEX_FORMAT, i)));
+      assertChildNode(predicate, array[i], arrayType, fieldLocation.field(format(INDEX_FORMAT, i)));
     }
   }
 
@@ -181,7 +294,7 @@ public class RecursiveAssertionDriver {
       Optional<?> optionalNode = (Optional<?>) node;
       if (optionalNode.isPresent()) {
         Class<?> nextNodeType = safeGetClass(optionalNode.get());
-        assertRecursively(predicate, optionalNode.get(), nextNodeType, fieldLocation.field("value"));
+        assertChildNode(predicate, optionalNode.get(), nextNodeType, fieldLocation.field("value"));
       }
     } else if (node instanceof OptionalInt) {
       OptionalInt optionalIntNode = (OptionalInt) node;
@@ -225,7 +338,7 @@ public class RecursiveAssertionDriver {
                                      String msgFormat) {
     Class<?> nextNodeType = safeGetClass(nextNode);
     String nextNodeFieldName = nextNode != null ? nextNode.toString() : NULL;
-    assertRecursively(predicate, nextNode, nextNodeType, fieldLocation.field(format(msgFormat, nextNodeFieldName)));
+    assertChildNode(predicate, nextNode, nextNodeType, fieldLocation.field(format(msgFormat, nextNodeFieldName)));
   }
 
   private static Class<?> safeGetClass(Object object) {
@@ -246,27 +359,20 @@ public class RecursiveAssertionDriver {
 
   private void evaluateFieldsOfCurrentNodeRecursively(Predicate<Object> predicate, Object node, FieldLocation fieldLocation) {
     configuration.getIntrospectionStrategy().getChildNodesOf(node)
-                 .forEach(field -> assertRecursively(predicate, field.value, field.type, fieldLocation.field(field.name)));
+                 .forEach(field -> assertChildNode(predicate, field.value, field.type, fieldLocation.field(field.name)));
   }
 
   private boolean markNodeAsVisited(Object node) {
     // Cannot mark null nodes, so just lie and say marking succeeded...
     if (node == null) return false;
 
-    String objectId = identityToString(node);
-    return !visitedNodeIds.add(objectId);
-  }
+    if (nodesVisitedBefore == null) return !visitedNodes.add(node);
 
-  /*
-   * This is taken verbatim from org.apache.commons.lang3.ObjectUtils .
-   */
-  private static String identityToString(final Object object) {
-    if (object == null) {
-      return null;
-    }
-    final String name = object.getClass().getName();
-    final String hexString = Integer.toHexString(System.identityHashCode(object));
-    return name + '@' + hexString;
+    // asserting subtrees in parallel, nodes are only visited by the group claiming them first
+    if (nodesVisitedBefore.contains(node) || !visitedNodes.add(node)) return true;
+    if (nodesClaimedBySubtrees.add(new NodeIdentity(node))) return false;
+    nodesClaimedByOtherSubtrees.add(node);
+    return true;
   }
 
   private boolean isCollection(Class<?> nodeType) {
@@ -281,5 +387,36 @@ public class RecursiveAssertionDriver {
     return Map.class.isAssignableFrom(nodeType);
   }
 
+  private static final class ChildNode {
+    private final Object node;
+    private final Class<?> nodeType;
+    private final FieldLocation fieldLocation;
+
+    private ChildNode(Object node, Class<?> nodeType, FieldLocation fieldLocation) {
+      this.node = node;
+      this.nodeType = nodeType;
+      this.fieldLocation = fieldLocation;
+    }
+  }
+
+  // concurrent sets can't compare their elements by identity, we wrap the nodes instead
+  private static final class NodeIdentity {
+    private final Object node;
+
+    private NodeIdentity(Object node) {
+      this.node = node;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof NodeIdentity && node == ((NodeIdentity) other).node;
+    }
+
+    @Override
+    public int hashCode() {
+      return identityHashCode(node);
+    }
+  }
+
   // try to get the runtime type if possible or the declared one if not
 }
@@ -13,12 +13,7 @@
 package org.assertj.core.api.recursive.comparison;
 
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
-import org.assertj.core.internal.Objects;
-import org.assertj.core.util.introspection.FieldSupport;
 
 /**
  * A {@link RecursiveComparisonIntrospectionStrategy} that introspects fields including inherited ones but ignores static and
@@ -28,18 +23,17 @@ public class ComparingFields implements RecursiveComparisonIntrospectionStrategy
 
   public static final ComparingFields COMPARING_FIELDS = new ComparingFields();
 
-  // use ConcurrentHashMap in case this strategy instance is used in a multi-thread context
-  private final Map<Class<?>, Set<String>> fieldNamesPerClass = new ConcurrentHashMap<>();
-
   @Override
   public Set<String> getChildrenNodeNamesOf(Object node) {
     if (node == null) return new HashSet<>();
-    return fieldNamesPerClass.computeIfAbsent(node.getClass(), Objects::getFieldsNames);
+    return FieldAccessors.of(node.getClass()).fieldNames();
   }
 
   @Override
   public Object getChildNodeValue(String childNodeName, Object instance) {
-    return FieldSupport.comparison().fieldValue(childNodeName, Object.class, instance);
+    if (instance == null) return null;
+    // fields are read with getters computed once per class instead of being looked up by name for each node
+    return FieldAccessors.of(instance.getClass()).fieldValue(childNodeName, instance);
   }
 
   @Override
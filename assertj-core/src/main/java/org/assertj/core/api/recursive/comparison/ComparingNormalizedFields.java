@@ -16,7 +16,6 @@ import static java.lang.String.format;
 import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -95,11 +94,9 @@ public abstract class ComparingNormalizedFields implements RecursiveComparisonIn
    * @return the normalized field name
    */
   private String normalize(Class<?> nodeClass, String fieldName) {
-    if (!originalFieldNameByNormalizedFieldNameByType.containsKey(nodeClass)) {
-      originalFieldNameByNormalizedFieldNameByType.put(nodeClass, new HashMap<>());
-    }
     String normalizedFieldName = normalizeFieldName(fieldName);
-    originalFieldNameByNormalizedFieldNameByType.get(nodeClass).put(normalizedFieldName, fieldName);
+    originalFieldNameByNormalizedFieldNameByType.computeIfAbsent(nodeClass, unused -> new ConcurrentHashMap<>())
+                                                .put(normalizedFieldName, fieldName);
     return normalizedFieldName;
   }
 
@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.assertj.core.internal.Objects;
+import org.assertj.core.util.introspection.FieldSupport;
+import org.assertj.core.util.introspection.IntrospectionError;
+
+/**
+ * The fields of a class introspected by the recursive comparison along with a getter for each of them, computed once per
+ * class.
+ * <p>
+ * Reading a field with its getter avoids looking the field up by name in the class hierarchy and the reflective access
+ * checks that {@link FieldSupport} performs each time it reads a field.
+ */
+final class FieldAccessors {
+
+  private static final ClassValue<FieldAccessors> FIELD_ACCESSORS = new ClassValue<FieldAccessors>() {
+    @Override
+    protected FieldAccessors computeValue(Class<?> type) {
+      return new FieldAccessors(type);
+    }
+  };
+
+  private final Set<String> fieldNames;
+  private final Map<String, FieldAccessor> fieldAccessors;
+
+  private FieldAccessors(Class<?> type) {
+    this.fieldNames = Objects.getFieldsNames(type);
+    this.fieldAccessors = new HashMap<>();
+    for (String fieldName : fieldNames) {
+      FieldAccessor fieldAccessor = FieldAccessor.of(fieldOf(type, fieldName));
+      if (fieldAccessor != null) fieldAccessors.put(fieldName, fieldAccessor);
+    }
+  }
+
+  static FieldAccessors of(Class<?> type) {
+    return FIELD_ACCESSORS.get(type);
+  }
+
+  Set<String> fieldNames() {
+    return fieldNames;
+  }
+
+  Object fieldValue(String fieldName, Object instance) {
+    FieldAccessor fieldAccessor = fieldAccessors.get(fieldName);
+    // unknown fields, fields we could not make accessible or private fields when they are not allowed are read the usual way
+    // which takes care of reporting errors properly
+    if (fieldAccessor == null || !fieldAccessor.canBeRead()) {
+      return FieldSupport.comparison().fieldValue(fieldName, Object.class, instance);
+    }
+    return fieldAccessor.read(instance);
+  }
+
+  // same lookup as FieldSupport: the first field with the given name found going up the class hierarchy
+  private static Field fieldOf(Class<?> type, String fieldName) {
+    for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+      try {
+        return currentType.getDeclaredField(fieldName);
+      } catch (@SuppressWarnings("unused") NoSuchFieldException e) {
+        // look in the superclass
+      }
+    }
+    return null;
+  }
+
+  private static final class FieldAccessor {
+    private final Field field;
+    private final boolean isPublic;
+    private final MethodHandle getter;
+
+    private FieldAccessor(Field field, MethodHandle getter) {
+      this.field = field;
+      this.isPublic = Modifier.isPublic(field.getModifiers());
+      this.getter = getter;
+    }
+
+    static FieldAccessor of(Field field) {
+      // static and synthetic fields are not supported, reading them the usual way reports it
+      if (field == null || field.isSynthetic() || Modifier.isStatic(field.getModifiers())) return null;
+      try {
+        field.setAccessible(true);
+        // (Object) -> Object so that the getter can be invoked with invokeExact whatever the field and declaring class
+        MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class));
+        return new FieldAccessor(field, getter);
+      } catch (@SuppressWarnings("unused") IllegalAccessException | RuntimeException e) {
+        // for example fields of JDK types that can't be made accessible in java 17+
+        return null;
+      }
+    }
+
+    boolean canBeRead() {
+      return isPublic || FieldSupport.comparison().isAllowedToUsePrivateFields();
+    }
+
+    Object read(Object instance) {
+      try {
+        return (Object) getter.invokeExact(instance);
+      } catch (Throwable unexpected) {
+        String msg = format("Unable to obtain the value of the field <'%s'> from <%s>", field.getName(), instance);
+        throw new IntrospectionError(msg, unexpected);
+      }
+    }
+  }
+
+}
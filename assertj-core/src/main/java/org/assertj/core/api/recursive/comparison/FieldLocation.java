@@ -12,44 +12,80 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
-import static java.util.Collections.emptyList;
+import static java.util.Collections.reverse;
 import static java.util.Collections.unmodifiableList;
-import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.joining;
 import static org.assertj.core.util.Lists.list;
-import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
  * Represents the path to a given field. Immutable
+ * <p>
+ * A field location is linked to its parent location, building a child location does not copy the path of its parent.
+ * <p>
+ * The locations created from the same root share their paths to use in rules, locations with the same path once element
+ * indexes are removed (ex: {@code children.[0].name} and {@code children.[1].name}) use the same {@code children.name}
+ * string.
  */
 // TODO should understand Map keys as field
 // TODO rename to FieldPath?
 public final class FieldLocation implements Comparable<FieldLocation> {
 
+  // null for the root location
+  private final FieldLocation parent;
+  private final String fieldName;
+  private final int hashCode;
+  // the paths to use in rules of the locations created from the same root, by parent path and field name
+  private final Map<RulesPathKey, String> rulesPaths;
+  // null for the root location and the elements of a root iterable or array
   private final String pathToUseInRules;
-  private final List<String> decomposedPath;
-  private final Set<String> pathsHierarchyToUseInRules;
+  // lazily computed, only needed for error reports
+  private volatile List<String> decomposedPath;
 
   public FieldLocation(List<String> path) {
-    decomposedPath = unmodifiableList(requireNonNull(path, "path cannot be null"));
-    pathToUseInRules = pathToUseInRules(decomposedPath);
-    pathsHierarchyToUseInRules = pathsHierarchyToUseInRules();
+    this(parentFieldLocation(requireNonNull(path, "path cannot be null")), lastFieldName(path));
+  }
+
+  private FieldLocation(FieldLocation parent, String fieldName) {
+    this.parent = parent;
+    this.fieldName = fieldName;
+    hashCode = computeHashCode();
+    rulesPaths = parent == null ? new ConcurrentHashMap<>() : parent.rulesPaths;
+    pathToUseInRules = computePathToUseInRules();
   }
 
   public FieldLocation(String s) {
     this(list(s.split("\\.")));
   }
 
+  private static FieldLocation parentFieldLocation(List<String> path) {
+    if (path.isEmpty()) return null;
+    FieldLocation parent = rootFieldLocation();
+    for (String field : path.subList(0, path.size() - 1)) {
+      parent = parent.field(field);
+    }
+    return parent;
+  }
+
+  private static String lastFieldName(List<String> path) {
+    if (path.isEmpty()) return null;
+    return requireNonNull(path.get(path.size() - 1), "field cannot be null");
+  }
+
+  private int computeHashCode() {
+    return 31 * Objects.hashCode(parent) + Objects.hashCode(fieldName);
+  }
+
   @Override
   public int compareTo(final FieldLocation other) {
-    return pathToUseInRules.compareTo(other.pathToUseInRules);
+    return getPathToUseInRules().compareTo(other.getPathToUseInRules());
   }
 
   @Override
@@ -57,42 +93,49 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     if (this == obj) return true;
     if (!(obj instanceof FieldLocation)) return false;
     FieldLocation that = (FieldLocation) obj;
-    return Objects.equals(pathToUseInRules, that.pathToUseInRules)
-           && Objects.equals(decomposedPath, that.decomposedPath)
-           && Objects.equals(pathsHierarchyToUseInRules, that.pathsHierarchyToUseInRules);
+    return Objects.equals(fieldName, that.fieldName) && Objects.equals(parent, that.parent);
   }
 
   @Override
   public int hashCode() {
-    int result = Objects.hashCode(pathToUseInRules);
-    result = 31 * result + Objects.hashCode(decomposedPath);
-    result = 31 * result + Objects.hashCode(pathsHierarchyToUseInRules);
-    return result;
+    return hashCode;
   }
 
   @Override
   public String toString() {
-    return String.format("<%s>", pathToUseInRules);
+    return String.format("<%s>", getPathToUseInRules());
   }
 
   public String shortDescription() {
-    return pathToUseInRules;
+    return getPathToUseInRules();
   }
 
-  private static String pathToUseInRules(List<String> path) {
+  private String computePathToUseInRules() {
+    if (parent == null) return null;
     // remove the array sub-path, so person.children.[2].name -> person.children.name
     // rules for ignoring fields don't apply at the element level (ex: children.[2]) but at the group level (ex: children).
-    return path.stream()
-               .filter(subpath -> !subpath.startsWith("["))
-               .collect(joining("."));
+    if (isElement()) return parent.pathToUseInRules;
+    if (parent.pathToUseInRules == null) return fieldName;
+    RulesPathKey rulesPathKey = new RulesPathKey(parent.pathToUseInRules, fieldName);
+    String path = rulesPaths.get(rulesPathKey);
+    if (path == null) {
+      path = parent.pathToUseInRules + "." + fieldName;
+      String existingPath = rulesPaths.putIfAbsent(rulesPathKey, path);
+      if (existingPath != null) path = existingPath;
+    }
+    return path;
+  }
+
+  private boolean isElement() {
+    return fieldName.startsWith("[");
   }
 
   public boolean exactlyMatches(FieldLocation field) {
-    return exactlyMatches(field.pathToUseInRules);
+    return exactlyMatches(field.getPathToUseInRules());
   }
 
   public boolean exactlyMatches(String fieldPath) {
-    return pathToUseInRules.equals(fieldPath);
+    return getPathToUseInRules().equals(fieldPath);
   }
 
   /**
@@ -143,7 +186,10 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true if this fieldLocation is the given fieldPath or a child of it, false otherwise.
    */
   public boolean hierarchyMatches(String fieldPath) {
-    return pathsHierarchyToUseInRules.contains(fieldPath);
+    if (fieldPath.isEmpty()) return false;
+    String path = getPathToUseInRules();
+    // the hierarchy is made of the path and its prefixes ending before a '.'
+    return path.startsWith(fieldPath) && (path.length() == fieldPath.length() || path.charAt(fieldPath.length()) == '.');
   }
 
   /**
@@ -171,49 +217,62 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    * @return true, this fieldLocation or any of its parent matches the given regex., false otherwise.
    */
   public boolean hierarchyMatchesRegex(Pattern regex) {
-    return pathsHierarchyToUseInRules.stream().anyMatch(path -> regex.matcher(path).matches());
+    String path = getPathToUseInRules();
+    Matcher matcher = regex.matcher(path);
+    // try matching from the longest to the shortest path of the hierarchy, each path being a region of the full path
+    for (int end = path.length(); end > 0; end = path.lastIndexOf('.', end - 1)) {
+      if (matcher.region(0, end).matches()) return true;
+    }
+    return false;
   }
 
   public List<String> getDecomposedPath() {
-    return decomposedPath;
+    List<String> path = decomposedPath;
+    if (path == null) {
+      path = computeDecomposedPath();
+      decomposedPath = path;
+    }
+    return path;
+  }
+
+  private List<String> computeDecomposedPath() {
+    List<String> path = new ArrayList<>();
+    for (FieldLocation location = this; location.parent != null; location = location.parent) {
+      path.add(location.fieldName);
+    }
+    reverse(path);
+    return unmodifiableList(path);
   }
 
   public String getPathToUseInRules() {
-    return pathToUseInRules;
+    return pathToUseInRules == null ? "" : pathToUseInRules;
   }
 
   public FieldLocation field(String field) {
-    List<String> decomposedPathWithField = new ArrayList<>(decomposedPath);
-    decomposedPathWithField.add(field);
-    return new FieldLocation(decomposedPathWithField);
+    return new FieldLocation(this, requireNonNull(field, "field cannot be null"));
   }
 
   public String getPathToUseInErrorReport() {
-    return String.join(".", decomposedPath);
+    return String.join(".", getDecomposedPath());
   }
 
   public String getFieldName() {
-    if (decomposedPath.isEmpty()) return "";
-    return decomposedPath.get(decomposedPath.size() - 1);
+    return parent == null ? "" : fieldName;
   }
 
   public boolean isRoot() {
     // Root is the top level object compared or in case of the top level is an iterable/array the elements are
     // considered as roots.
     // We don't do it for optional since it has a 'value' field (at least for now)
-    return isRootPath(pathToUseInRules);
-  }
-
-  private boolean isRootPath(String pathToUseInRules) {
-    return pathToUseInRules.isEmpty();
+    return getPathToUseInRules().isEmpty();
   }
 
   public boolean isTopLevelField() {
-    return !isRoot() && !pathToUseInRules.contains(".");
+    return !isRoot() && getPathToUseInRules().indexOf('.') < 0;
   }
 
   public static FieldLocation rootFieldLocation() {
-    return new FieldLocation(emptyList());
+    return new FieldLocation(null, null);
   }
 
   /**
@@ -238,7 +297,9 @@ public final class FieldLocation implements Comparable<FieldLocation> {
    */
   public boolean hasParent(FieldLocation parent) {
     // "." guarantees that we compare path elements, this avoids making "name" a parent of "names"
-    return pathToUseInRules.startsWith(parent.pathToUseInRules + ".");
+    String path = getPathToUseInRules();
+    String parentPath = parent.getPathToUseInRules();
+    return path.length() > parentPath.length() && path.startsWith(parentPath) && path.charAt(parentPath.length()) == '.';
   }
 
   /**
@@ -266,23 +327,27 @@ public final class FieldLocation implements Comparable<FieldLocation> {
     return child.hasParent(this);
   }
 
-  private Set<String> pathsHierarchyToUseInRules() {
-    // using LinkedHashSet to maintain leaf to root iteration order
-    // so that hierarchyMatchesRegex can try matching from the longest to the shortest path
-    Set<String> fieldAndParentFields = newLinkedHashSet();
-    String currentPath = this.pathToUseInRules;
-    while (!isRootPath(currentPath)) {
-      fieldAndParentFields.add(currentPath);
-      currentPath = parent(currentPath);
+  private static final class RulesPathKey {
+
+    private final String parentPath;
+    private final String fieldName;
+
+    private RulesPathKey(String parentPath, String fieldName) {
+      this.parentPath = parentPath;
+      this.fieldName = fieldName;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof RulesPathKey)) return false;
+      RulesPathKey that = (RulesPathKey) obj;
+      return parentPath.equals(that.parentPath) && fieldName.equals(that.fieldName);
     }
-    return unmodifiableSet(fieldAndParentFields);
-  }
 
-  private String parent(String currentPath) {
-    int lastDot = currentPath.lastIndexOf('.');
-    if (lastDot < 0) {
-      return "";
+    @Override
+    public int hashCode() {
+      return 31 * parentPath.hashCode() + fieldName.hashCode();
     }
-    return currentPath.substring(0, lastDot);
   }
 }
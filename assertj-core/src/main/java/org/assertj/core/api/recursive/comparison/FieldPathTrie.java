@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Field paths (like {@code name.first}) stored as a tree of path elements, allows to check a field location against all
+ * the field paths by walking its path once instead of checking each field path one by one.
+ * <p>
+ * Field locations are checked with their {@link FieldLocation#getPathToUseInRules() path to use in rules}.
+ * <p>
+ * Immutable once built, it can be used concurrently.
+ */
+public final class FieldPathTrie {
+
+  private final Node root = new Node();
+  private final int size;
+
+  public FieldPathTrie(Iterable<String> fieldPaths) {
+    int fieldPathsCount = 0;
+    for (String fieldPath : fieldPaths) {
+      add(fieldPath);
+      fieldPathsCount++;
+    }
+    size = fieldPathsCount;
+  }
+
+  private void add(String fieldPath) {
+    Node node = root;
+    int start = 0;
+    while (true) {
+      int end = fieldPath.indexOf('.', start);
+      node = node.children.computeIfAbsent(pathElement(fieldPath, start, end), pathElement -> new Node());
+      if (end < 0) break;
+      start = end + 1;
+    }
+    node.isFieldPath = true;
+  }
+
+  /**
+   * Returns the number of field paths this was built with.
+   *
+   * @return the number of field paths this was built with.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns true if any field path is the given field location or one of its parents, false otherwise.
+   * <p>
+   * This is equivalent to checking {@link FieldLocation#hierarchyMatches(String)} with each field path.
+   *
+   * @param fieldLocation the field location to check
+   * @return true if any field path is the given field location or one of its parents, false otherwise.
+   */
+  public boolean hierarchyMatchesAny(FieldLocation fieldLocation) {
+    return matches(fieldLocation, false);
+  }
+
+  /**
+   * Returns true if any field path is the given field location, one of its parents or one of its children, false otherwise.
+   *
+   * @param fieldLocation the field location to check
+   * @return true if any field path is the given field location, one of its parents or one of its children, false otherwise.
+   */
+  public boolean hierarchyMatchesOrHasChildInAny(FieldLocation fieldLocation) {
+    return matches(fieldLocation, true);
+  }
+
+  private boolean matches(FieldLocation fieldLocation, boolean matchChildren) {
+    if (size == 0) return false;
+    String path = fieldLocation.getPathToUseInRules();
+    Node node = root;
+    int start = 0;
+    while (true) {
+      int end = path.indexOf('.', start);
+      node = node.children.get(pathElement(path, start, end));
+      if (node == null) return false;
+      // a field path is a prefix of the path: either the path itself or one of its parents
+      if (node.isFieldPath) return true;
+      // the whole path was walked, the node has children since only field paths can end a branch
+      if (end < 0) return matchChildren;
+      start = end + 1;
+    }
+  }
+
+  private static String pathElement(String path, int start, int end) {
+    return end < 0 ? path.substring(start) : path.substring(start, end);
+  }
+
+  private static final class Node {
+    private final Map<String, Node> children = new HashMap<>();
+    private boolean isFieldPath;
+  }
+}
@@ -15,7 +15,6 @@ package org.assertj.core.api.recursive.comparison;
 import static java.lang.String.format;
 
 import java.util.Comparator;
-import java.util.List;
 
 /**
  * {@code Comparator} comparing objects recursively as in {@link org.assertj.core.api.RecursiveComparisonAssert}.
@@ -52,8 +51,8 @@ public class RecursiveComparator implements Comparator<Object> {
     this.recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
   }
 
-  private List<ComparisonDifference> determineDifferencesWith(Object actual, Object expected) {
-    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, recursiveComparisonConfiguration);
+  private boolean areEqual(Object actual, Object expected) {
+    return recursiveComparisonDifferenceCalculator.areEqual(actual, expected, recursiveComparisonConfiguration);
   }
 
   public String getDescription() {
@@ -63,6 +62,8 @@ public class RecursiveComparator implements Comparator<Object> {
 
   /**
    * Returns zero if the arguments are recursively equal to each other, or non-zero otherwise (no ordering enforced).
+   * <p>
+   * The recursive comparison stops at the first difference found, the returned value is not the number of differences.
    *
    * @param actual the object to compare to {@code other}
    * @param other the object to compare to {@code actual}
@@ -71,7 +72,7 @@ public class RecursiveComparator implements Comparator<Object> {
   @Override
   public int compare(Object actual, Object other) {
     if (actual == other) return 0;
-    if (actual != null && other != null) return determineDifferencesWith(actual, other).size();
+    if (actual != null && other != null) return areEqual(actual, other) ? 0 : 1;
     // either actual or other is null but not both => can't be equal
     return -1;
   }
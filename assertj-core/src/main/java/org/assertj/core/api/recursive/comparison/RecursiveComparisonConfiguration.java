@@ -17,16 +17,19 @@ import static java.util.Arrays.stream;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.recursive.ChangeNotifyingCollections.changeNotifyingSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.data.MapEntry.entry;
 import static org.assertj.core.internal.RecursiveHelper.isContainer;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +38,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.BiPredicate;
-import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -59,7 +61,10 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
   private boolean ignoreAllExpectedNullFields = false;
 
   // fields to compare (no other field will be)
-  private Set<FieldLocation> comparedFields = new LinkedHashSet<>();
+  // any change to the compared fields, including through getComparedFields(), discards the compiled comparedFieldsRules
+  private Set<FieldLocation> comparedFields = changeNotifyingSet(new LinkedHashSet<>(), this::discardComparedFieldsRules);
+  // compared fields compiled to be evaluated efficiently on each field location, reset when they change
+  private volatile ComparedFieldsRules comparedFieldsRules;
 
   // fields of types to compare (no other field will be)
   private Set<Class<?>> comparedTypes = new LinkedHashSet<>();
@@ -95,13 +100,17 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
 
   private boolean compareEnumAgainstString = false;
 
+  private int parallelism = 1;
+
+  private int maxDifferences = Integer.MAX_VALUE;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     super(builder);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
     this.ignoreAllActualEmptyOptionalFields = builder.ignoreAllActualEmptyOptionalFields;
     this.strictTypeChecking = builder.strictTypeChecking;
     this.ignoreAllExpectedNullFields = builder.ignoreAllExpectedNullFields;
-    this.comparedFields = newLinkedHashSet(builder.comparedFields);
+    this.comparedFields = changeNotifyingSet(newLinkedHashSet(builder.comparedFields), this::discardComparedFieldsRules);
     this.comparedTypes = newLinkedHashSet(builder.comparedTypes);
     ignoreOverriddenEqualsForTypes(builder.ignoredOverriddenEqualsForTypes);
     this.ignoredOverriddenEqualsForFields = list(builder.ignoredOverriddenEqualsForFields);
@@ -115,6 +124,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
     this.introspectionStrategy = builder.introspectionStrategy;
+    this.parallelism = builder.parallelism;
+    this.maxDifferences = builder.maxDifferences;
   }
 
   public RecursiveComparisonConfiguration() {
@@ -610,6 +621,41 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return this.compareEnumAgainstString;
   }
 
+  /**
+   * Sets the number of threads used to compare independent parts of the object graphs (collection elements, map values,
+   * sibling fields), the default is 1 meaning the comparison is done sequentially in the calling thread.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+   *
+   * @param parallelism the number of threads used in the recursive comparison, must be greater than 0.
+   * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the number of differences after which the recursive comparison stops, the default is to find all differences.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for more details.
+   *
+   * @param maxDifferences the maximum number of differences to report, must be greater than 0.
+   * @throws IllegalArgumentException if the given maximum number of differences is not greater than 0.
+   */
+  public void setMaxDifferences(int maxDifferences) {
+    checkArgument(maxDifferences > 0, "maxDifferences must be greater than 0 but was %s", maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  public int getMaxDifferences() {
+    return maxDifferences;
+  }
+
   @Override
   public String toString() {
     return multiLineDescription(CONFIGURATION_PROVIDER.representation());
@@ -623,7 +669,7 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
                                   getIgnoredFields(), getIgnoredFieldsRegexes(), ignoredOverriddenEqualsForFields,
                                   ignoredOverriddenEqualsForTypes, ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                   getIgnoredTypes(), strictTypeChecking, typeComparators, comparedFields, comparedTypes,
-                                  fieldMessages, typeMessages, compareEnumAgainstString);
+                                  fieldMessages, typeMessages, compareEnumAgainstString, parallelism, maxDifferences);
   }
 
   @Override
@@ -653,7 +699,9 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes)
            && java.util.Objects.equals(fieldMessages, other.fieldMessages)
-           && java.util.Objects.equals(typeMessages, other.typeMessages);
+           && java.util.Objects.equals(typeMessages, other.typeMessages)
+           && parallelism == other.parallelism
+           && maxDifferences == other.maxDifferences;
   }
 
   public String multiLineDescription(Representation representation) {
@@ -678,6 +726,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     describeRegisteredErrorMessagesForTypes(description);
     describeIntrospectionStrategy(description);
     describeCompareEnumAgainstString(description);
+    describeParallelism(description);
+    describeMaxDifferences(description);
     return description.toString();
   }
 
@@ -699,44 +749,77 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     if (comparedFields.isEmpty() && comparedTypes.isEmpty()) return true;
     // if we have compared types, we can't ignore any values since they could have fields of types to compare
     if (!comparedTypes.isEmpty()) return true;
-    return comparedFields.stream().anyMatch(matchesComparedField(dualValue.fieldLocation));
-  }
-
-  private static Predicate<FieldLocation> matchesComparedField(FieldLocation field) {
     // a field f must be compared if any compared fields is f itself (obviously), a parent of f or a child of f.
     // - "name.first" must be compared if "name" is a compared field so will other "name" subfields like "name.last"
     // - "name" must be compared if "name.first" is a compared field otherwise "name" is ignored and "name.first" too
-    return comparedField -> field.isRoot() // always compare root!
-                            || field.exactlyMatches(comparedField)
-                            || field.hasParent(comparedField) // ex: field "name.first" and "name" compared field
-                            || field.hasChild(comparedField); // ex: field "name" and "name.first" compared field
+    FieldLocation field = dualValue.fieldLocation;
+    return field.isRoot() // always compare root!
+           || comparedFieldsRules().comparedFieldsTrie.hierarchyMatchesOrHasChildInAny(field);
+  }
+
+  private ComparedFieldsRules comparedFieldsRules() {
+    ComparedFieldsRules rules = comparedFieldsRules;
+    if (rules == null) {
+      rules = new ComparedFieldsRules(comparedFields);
+      comparedFieldsRules = rules;
+    }
+    return rules;
+  }
+
+  private void discardComparedFieldsRules() {
+    comparedFieldsRules = null;
   }
 
   @VisibleForTesting
   public Set<String> getActualChildrenNodeNamesToCompare(DualValue dualValue) {
+    return getActualChildrenNodesToCompare(dualValue).keySet();
+  }
+
+  /**
+   * Returns the actual children nodes to compare by name, along with the children {@link DualValue} built to decide
+   * whether they had to be compared, this avoids introspecting the children values again to compare them.
+   * <p>
+   * A child {@link DualValue} is null if the children values were not introspected (when there are compared types) or
+   * if the expected child value could not be read, it must then be built by reading the values again.
+   */
+  Map<String, DualValue> getActualChildrenNodesToCompare(DualValue dualValue) {
     Set<String> actualChildrenNodeNames = getChildrenNodeNamesOf(dualValue.actual);
     // if we have some compared types, we can't discard any nodes since they could have fields we need to compare.
     // we could evaluate the whole graphs to figure that but that would be bad performance wise so add everything
     // and exclude later on any differences that were on fields not to compare
     if (!comparedTypes.isEmpty()) {
       registerFieldLocationOfFieldsOfTypesToCompare(dualValue);
-      return actualChildrenNodeNames;
+      Map<String, DualValue> actualChildrenNodes = new LinkedHashMap<>();
+      actualChildrenNodeNames.forEach(fieldName -> actualChildrenNodes.put(fieldName, null));
+      return actualChildrenNodes;
     }
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored nodes by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the node value
     // DualValues are built by introspecting node values which is expensive.
-    return actualChildrenNodeNames.stream()
-                                  // evaluate field name ignoring criteria on dualValue field location + field name
-                                  .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
-                                  .map(fieldName -> dualValueForField(dualValue, fieldName))
-                                  // evaluate field value ignoring criteria
-                                  .filter(fieldDualValue -> !shouldIgnoreFieldBasedOnFieldValue(fieldDualValue))
-                                  .filter(this::shouldBeCompared)
-                                  // back to field name
-                                  .map(DualValue::getFieldName)
-                                  .filter(fieldName -> !fieldName.isEmpty())
-                                  .collect(toSet());
+    Map<String, DualValue> actualChildrenNodesToCompare = new HashMap<>();
+    for (String fieldName : actualChildrenNodeNames) {
+      if (fieldName.isEmpty()) continue;
+      FieldLocation fieldLocation = dualValue.fieldLocation.field(fieldName);
+      // evaluate field name ignoring criteria on dualValue field location + field name
+      if (shouldIgnoreFieldBasedOnFieldLocation(fieldLocation)) continue;
+      Object actualFieldValue = getValue(fieldName, dualValue.actual);
+      // no guarantees we have a field in expected named as fieldName
+      Object expectedFieldValue = null;
+      boolean expectedFieldValueRead = false;
+      try {
+        expectedFieldValue = getValue(fieldName, dualValue.expected);
+        expectedFieldValueRead = true;
+      } catch (@SuppressWarnings("unused") Exception e) {
+        // keep the field null to express it is absent, this not 100% accurate as the value could be null,
+        // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
+      }
+      DualValue fieldDualValue = new DualValue(fieldLocation, actualFieldValue, expectedFieldValue);
+      // evaluate field value ignoring criteria
+      if (shouldIgnoreFieldBasedOnFieldValue(fieldDualValue) || !shouldBeCompared(fieldDualValue)) continue;
+      actualChildrenNodesToCompare.put(fieldName, expectedFieldValueRead ? fieldDualValue : null);
+    }
+    return actualChildrenNodesToCompare;
   }
 
   Set<String> getChildrenNodeNamesOf(Object instance) {
@@ -759,21 +842,6 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
   }
 
-  private DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
-    Object actualFieldValue = getValue(fieldName, parentDualValue.actual);
-    // no guarantees we have a field in expected named as fieldName
-    Object expectedFieldValue;
-    try {
-      expectedFieldValue = getValue(fieldName, parentDualValue.expected);
-    } catch (@SuppressWarnings("unused") Exception e) {
-      // set the field to null to express it is absent, this not 100% accurate as the value could be null,
-      // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
-      expectedFieldValue = null;
-    }
-    FieldLocation fieldLocation = parentDualValue.fieldLocation.field(fieldName);
-    return new DualValue(fieldLocation, actualFieldValue, expectedFieldValue);
-  }
-
   boolean hasCustomComparator(DualValue dualValue) {
     String fieldName = dualValue.getConcatenatedPath();
     if (hasComparatorForField(fieldName)) return true;
@@ -906,6 +974,16 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       description.append(format("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal%n"));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append(format("- independent parts of the objects graph were compared in parallel using %s threads%n", parallelism));
+  }
+
+  private void describeMaxDifferences(StringBuilder description) {
+    if (maxDifferences != Integer.MAX_VALUE)
+      description.append(format("- the comparison stops after finding %s difference(s)%n", maxDifferences));
+  }
+
   private boolean matchesAnIgnoredOverriddenEqualsRegex(FieldLocation fieldLocation) {
     if (ignoredOverriddenEqualsForFieldsMatchingRegexes.isEmpty()) return false; // shortcut
     String pathToUseInRules = fieldLocation.getPathToUseInRules();
@@ -1160,6 +1238,15 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     return comparedFields.stream().anyMatch(comparedField -> comparedField.exactlyMatches(dualValue.fieldLocation));
   }
 
+  private static final class ComparedFieldsRules {
+
+    private final FieldPathTrie comparedFieldsTrie;
+
+    private ComparedFieldsRules(Set<FieldLocation> comparedFields) {
+      comparedFieldsTrie = new FieldPathTrie(comparedFields.stream().map(FieldLocation::getPathToUseInRules).collect(toList()));
+    }
+  }
+
   /**
    * Builder to build {@link RecursiveComparisonConfiguration}.
    */
@@ -1183,6 +1270,8 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
     private final TypeMessages typeMessages = new TypeMessages();
 
     private RecursiveComparisonIntrospectionStrategy introspectionStrategy = DEFAULT_RECURSIVE_COMPARISON_INTROSPECTION_STRATEGY;
+    private int parallelism = 1;
+    private int maxDifferences = Integer.MAX_VALUE;
 
     private Builder() {
       super(Builder.class);
@@ -1549,6 +1638,37 @@ public class RecursiveComparisonConfiguration extends AbstractRecursiveOperation
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare independent parts of the object graphs (collection elements, map values,
+     * sibling fields), the default is 1 meaning the comparison is done sequentially in the calling thread.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+     *
+     * @param parallelism the number of threads used in the recursive comparison, must be greater than 0.
+     * @return this builder.
+     * @throws IllegalArgumentException if the given parallelism is not greater than 0.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism > 0, "parallelism must be greater than 0 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the number of differences after which the recursive comparison stops, the default is to find all differences.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for more details.
+     *
+     * @param maxDifferences the maximum number of differences to report, must be greater than 0.
+     * @return this builder.
+     * @throws IllegalArgumentException if the given maximum number of differences is not greater than 0.
+     */
+    public Builder withMaxDifferences(int maxDifferences) {
+      checkArgument(maxDifferences > 0, "maxDifferences must be greater than 0 but was %s", maxDifferences);
+      this.maxDifferences = maxDifferences;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
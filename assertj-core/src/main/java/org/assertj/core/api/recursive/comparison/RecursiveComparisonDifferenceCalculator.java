@@ -18,6 +18,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.assertj.core.api.recursive.ParallelRecursiveOperations.runInParallel;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
@@ -34,6 +35,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -69,6 +71,7 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  private static final int SUBTREES_PER_THREAD = 4;
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
@@ -76,12 +79,23 @@ public class RecursiveComparisonDifferenceCalculator {
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // the comparison stops once it has found that many differences
+    int maxDifferences;
 
     public ComparisonState(VisitedDualValues visitedDualValues,
-                           RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+                           RecursiveComparisonConfiguration recursiveComparisonConfiguration, int maxDifferences) {
       this.visitedDualValues = visitedDualValues;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.maxDifferences = maxDifferences;
+    }
+
+    // state to compare the given subtrees (in order) independently of the rest of the comparison
+    ComparisonState subtreesComparisonState(List<DualValue> subtreeRoots, VisitedDualValues.SubtreesLookups subtreesLookups) {
+      ComparisonState subtreesComparisonState = new ComparisonState(visitedDualValues.forSubtree(subtreesLookups),
+                                                                    recursiveComparisonConfiguration, maxDifferences);
+      subtreesComparisonState.dualValuesToCompare.addAll(subtreeRoots);
+      return subtreesComparisonState;
     }
 
     void addDifference(DualValue dualValue) {
@@ -117,12 +131,14 @@ public class RecursiveComparisonDifferenceCalculator {
     }
 
     public List<ComparisonDifference> getDifferences() {
+      // comparing a single node can find several differences (ex: map keys), only keep the first ones found
+      if (differences.size() > maxDifferences) differences = new ArrayList<>(differences.subList(0, maxDifferences));
       Collections.sort(differences);
       return differences;
     }
 
     public boolean hasDualValuesToCompare() {
-      return !dualValuesToCompare.isEmpty();
+      return !dualValuesToCompare.isEmpty() && differences.size() < maxDifferences;
     }
 
     public DualValue pickDualValueToCompare() {
@@ -146,19 +162,15 @@ public class RecursiveComparisonDifferenceCalculator {
           recursiveComparisonConfiguration.checkComparedFieldsExist(actual);
         }
         // TODO should fail if actual and expected don't have the same fields (taking into account ignored/compared fields)
-        Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
-        if (!actualChildrenNodeNamesToCompare.isEmpty()) {
+        Map<String, DualValue> actualChildrenNodesToCompare = recursiveComparisonConfiguration.getActualChildrenNodesToCompare(dualValue);
+        if (!actualChildrenNodesToCompare.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
           Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expected);
-          if (expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
+          if (expectedChildrenNodesNames.containsAll(actualChildrenNodesToCompare.keySet())) {
             // we compare actual fields vs expected, ignoring expected additional fields
-            for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
-              Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actual);
-              Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expected);
-              DualValue childNodeDualValue = new DualValue(nodeLocation.field(actualChildNodeName), actualChildNodeValue,
-                                                           expectedChildNodeValue);
-              registerForComparison(childNodeDualValue);
+            for (Entry<String, DualValue> actualChildNode : actualChildrenNodesToCompare.entrySet()) {
+              registerForComparison(childNodeDualValue(dualValue, actualChildNode, recursiveComparisonConfiguration));
             }
           } else {
             registerForComparison(dualValue);
@@ -222,192 +234,291 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration,
+                                recursiveComparisonConfiguration.getMaxDifferences());
+  }
+
+  /**
+   * Returns whether the given objects are equal according to the recursive comparison, the comparison stops at the first
+   * difference found since there is no need to look for other ones.
+   * <p>
+   * The comparison is always sequential (ignoring the configured parallelism) as this is called for each pair of elements
+   * when the recursive comparison is used as an element comparator.
+   *
+   * @param actual Object one to compare
+   * @param expected Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return true if no differences were found, false otherwise.
+   */
+  public boolean areEqual(Object actual, Object expected, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration, 1, false).isEmpty();
+  }
+
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 int maxDifferences) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration, maxDifferences, true);
+  }
+
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 int maxDifferences, boolean parallelComparisonAllowed) {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration);
+    if (parallelComparisonAllowed && recursiveComparisonConfiguration.getParallelism() > 1
+        && !recursiveComparisonConfiguration.hasComparedTypes()) {
+      // comparing only some types registers field locations in the configuration while comparing, this can't be done in parallel
+      return determineDifferencesInParallel(actual, expected, recursiveComparisonConfiguration, maxDifferences);
+    }
+    return determineDifferences(actual, expected, rootFieldLocation(), new VisitedDualValues(), recursiveComparisonConfiguration,
+                                maxDifferences);
+  }
+
+  /**
+   * Compares the first nodes sequentially until there are enough independent subtrees to compare, then compares each subtree
+   * in parallel with its own copy of the visited dual values.
+   * <p>
+   * The sequential comparison fully compares a subtree before comparing the next one, merging the subtrees differences in
+   * the same order gives the same differences as the sequential comparison unless subtrees share some values (the second
+   * subtree reaching a shared value reports it as already visited), in that case the subtrees stop as soon as the shared value
+   * is detected and the comparison goes on sequentially from the subtrees roots, the first nodes are not compared again.
+   * <p>
+   * Each subtree stops after finding {@code maxDifferences}, as differences are merged in the sequential comparison order,
+   * keeping the first {@code maxDifferences} ones gives the differences the sequential comparison would have stopped at.
+   */
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                           int maxDifferences) {
+    int parallelism = recursiveComparisonConfiguration.getParallelism();
+    ComparisonState comparisonState = new ComparisonState(new VisitedDualValues(), recursiveComparisonConfiguration,
+                                                          maxDifferences);
+    comparisonState.initDualValuesToCompare(actual, expected, rootFieldLocation());
+    // having more subtrees than threads balances the work when subtrees have different sizes
+    while (comparisonState.hasDualValuesToCompare()
+           && comparisonState.dualValuesToCompare.size() < SUBTREES_PER_THREAD * parallelism) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    if (!comparisonState.hasDualValuesToCompare()) return comparisonState.getDifferences();
+
+    // subtrees are listed in the order the sequential comparison would compare them, consecutive subtrees are grouped
+    // so that we don't create a comparison state per element of a huge collection
+    List<DualValue> subtreeRoots = new ArrayList<>(comparisonState.dualValuesToCompare);
+    int subtreesGroupSize = (subtreeRoots.size() + SUBTREES_PER_THREAD * parallelism - 1) / (SUBTREES_PER_THREAD * parallelism);
+    VisitedDualValues.SubtreesLookups subtreesLookups = new VisitedDualValues.SubtreesLookups();
+    List<ComparisonState> subtreeComparisonStates = new ArrayList<>();
+    List<Runnable> subtreeComparisons = new ArrayList<>();
+    for (int i = 0; i < subtreeRoots.size(); i += subtreesGroupSize) {
+      List<DualValue> subtreesGroup = subtreeRoots.subList(i, Math.min(i + subtreesGroupSize, subtreeRoots.size()));
+      ComparisonState subtreeComparisonState = comparisonState.subtreesComparisonState(subtreesGroup, subtreesLookups);
+      subtreeComparisonStates.add(subtreeComparisonState);
+      subtreeComparisons.add(() -> compareDualValues(subtreeComparisonState));
+    }
+    runInParallel(subtreeComparisons, parallelism);
+    if (subtreesLookups.dualValuesShared()) {
+      // the subtrees comparisons are discarded, comparisonState has been left untouched by them
+      compareDualValues(comparisonState);
+      return comparisonState.getDifferences();
+    }
+    subtreeComparisonStates.forEach(subtreeComparisonState -> comparisonState.differences.addAll(subtreeComparisonState.differences));
+    return comparisonState.getDifferences();
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
                                                                  VisitedDualValues visitedDualValues,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration);
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 int maxDifferences) {
+    ComparisonState comparisonState = new ComparisonState(visitedDualValues, recursiveComparisonConfiguration, maxDifferences);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
+    compareDualValues(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
-    while (comparisonState.hasDualValuesToCompare()) {
+  private static void compareDualValues(ComparisonState comparisonState) {
+    // subtrees compared in parallel stop as soon as they share values with another subtree, their result is discarded
+    while (comparisonState.hasDualValuesToCompare() && !comparisonState.visitedDualValues.subtreesShareDualValues()) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+  }
 
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
-      if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
-        // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
-        // only compare the Person type, we must compare the Person fields too even though they are not of type Person
-        recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
-      }
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    if (recursiveComparisonConfiguration.hierarchyMatchesAnyComparedTypes(dualValue)) {
+      // keep track of field locations of type to compare, needed to compare child nodes, for example if we want to
+      // only compare the Person type, we must compare the Person fields too even though they are not of type Person
+      recursiveComparisonConfiguration.registerFieldLocationToCompareBecauseOfTypesToCompare(dualValue.fieldLocation);
+    }
 
-      // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
-      Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
-      if (comparisonDifferences.isPresent()) {
-        if (!comparisonDifferences.get().isEmpty()) {
-          comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
-        }
-        continue;
+    // if we have already visited the dual value, no need to compute the comparison differences again, this also avoid cycles
+    Optional<List<ComparisonDifference>> comparisonDifferences = comparisonState.visitedDualValues.registeredComparisonDifferencesOf(dualValue);
+    if (comparisonDifferences.isPresent()) {
+      if (!comparisonDifferences.get().isEmpty()) {
+        comparisonState.addDifference(dualValue, "already visited node but now location is: " + dualValue.fieldLocation);
       }
+      return;
+    }
 
-      // first time we evaluate this dual value, perform the usual recursive comparison from there
-
-      // visited dual values are tracked to avoid cycle
-      if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
-        // only track dual values if their field location is a compared field or a child of one that could have cycles,
-        // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
-        // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
-        // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
-        if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
-            && dualValue.hasPotentialCyclingValues()) {
-          comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
-        }
-      } else if (dualValue.hasPotentialCyclingValues()) {
+    // first time we evaluate this dual value, perform the usual recursive comparison from there
+
+    // visited dual values are tracked to avoid cycle
+    if (recursiveComparisonConfiguration.someComparedFieldsHaveBeenSpecified()) {
+      // only track dual values if their field location is a compared field or a child of one that could have cycles,
+      // before we get to a compared field, tracking dual values is wrong, ex: given a person root object with a
+      // neighbour.neighbour field that cycles back to itself, and we compare neighbour.neighbour.name, if we track
+      // visited all dual values, we would not introspect neighbour.neighbour as it was already visited as root.
+      if (recursiveComparisonConfiguration.isOrIsChildOfAnyComparedFields(dualValue.fieldLocation)
+          && dualValue.hasPotentialCyclingValues()) {
         comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
       }
+    } else if (dualValue.hasPotentialCyclingValues()) {
+      comparisonState.visitedDualValues.registerVisitedDualValue(dualValue);
+    }
 
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      if (dualValue.isActualAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    if (dualValue.isActualAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
-      }
+    // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
+    if (dualValue.isExpectedFieldAnAtomicBoolean()) {
+      compareAtomicBoolean(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicInteger()) {
+      compareAtomicInteger(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
+      compareAtomicIntegerArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLong()) {
+      compareAtomicLong(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLongArray()) {
+      compareAtomicLongArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReference()) {
+      compareAtomicReference(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
+      compareAtomicReferenceArray(dualValue, comparisonState);
+      return;
+    }
 
-      if (shouldHonorEquals(dualValue, recursiveComparisonConfiguration)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (shouldHonorEquals(dualValue, recursiveComparisonConfiguration)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue,
-                                      format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
-        continue;
-      }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue,
+                                    format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
+      return;
+    }
 
-      Set<String> actualChildrenNodeNamesToCompare = recursiveComparisonConfiguration.getActualChildrenNodeNamesToCompare(dualValue);
-      Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-
-      // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
-      if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
-        // report missing nodes in actual
-        Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
-        actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
-        String missingNodes = actualNodesNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingNodesDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                missingNodes);
-        comparisonState.addDifference(dualValue, missingNodesDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's children nodes against expected:
-        // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
-        for (String actualChildNodeName : actualChildrenNodeNamesToCompare) {
-          if (expectedChildrenNodesNames.contains(actualChildNodeName)) {
-            Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, actualFieldValue);
-            Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(actualChildNodeName, expectedFieldValue);
-            DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualChildNodeName),
-                                                   actualChildNodeValue, expectedChildNodeValue);
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Map<String, DualValue> actualChildrenNodesToCompare = recursiveComparisonConfiguration.getActualChildrenNodesToCompare(dualValue);
+    Set<String> actualChildrenNodeNamesToCompare = actualChildrenNodesToCompare.keySet();
+    Set<String> expectedChildrenNodesNames = recursiveComparisonConfiguration.getChildrenNodeNamesOf(expectedFieldValue);
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+
+    // Check if expected has more children nodes than actual, in that case the additional nodes are reported as difference
+    if (!expectedChildrenNodesNames.containsAll(actualChildrenNodeNamesToCompare)) {
+      // report missing nodes in actual
+      Set<String> actualNodesNamesNotInExpected = newHashSet(actualChildrenNodeNamesToCompare);
+      actualNodesNamesNotInExpected.removeAll(expectedChildrenNodesNames);
+      String missingNodes = actualNodesNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingNodesDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                              expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                              missingNodes);
+      comparisonState.addDifference(dualValue, missingNodesDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's children nodes against expected:
+      // - if actual has more nodes than expected, the additional nodes are ignored as expected is the reference
+      for (Entry<String, DualValue> actualChildNode : actualChildrenNodesToCompare.entrySet()) {
+        if (expectedChildrenNodesNames.contains(actualChildNode.getKey())) {
+          comparisonState.registerForComparison(childNodeDualValue(dualValue, actualChildNode, recursiveComparisonConfiguration));
         }
       }
     }
-    return comparisonState.getDifferences();
+  }
+
+  // reuse the child DualValue built when deciding whether to compare the child node, if there is one
+  private static DualValue childNodeDualValue(DualValue dualValue, Entry<String, DualValue> childNode,
+                                              RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    if (childNode.getValue() != null) return childNode.getValue();
+    String childNodeName = childNode.getKey();
+    Object actualChildNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, dualValue.actual);
+    Object expectedChildNodeValue = recursiveComparisonConfiguration.getValue(childNodeName, dualValue.expected);
+    return new DualValue(dualValue.fieldLocation.field(childNodeName), actualChildNodeValue, expectedChildNodeValue);
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -542,16 +653,16 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
+    // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
+    // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
+    // the first actual elements that could match the expected one, worst case we compare all actual elements.
+    // actualElementsGroupedByHashCode is built once for all expected elements, matched actual elements must not be removed
+    // from its entries as the next expectedElement comparison would be done on a smaller set of entries which leads to
+    // incorrect results (see https://github.com/assertj/assertj/issues/3598).
+    Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
     List<Object> expectedElementsNotFound = list();
     for (Object expectedElement : expected) {
       boolean expectedElementMatched = false;
-      // speed up comparison by selecting actual elements matching expected hash code, note that the hash code might not be
-      // relevant if fields used to compute it are ignored in the recursive comparison, it's a good heuristic though to check
-      // the first actual elements that could match the expected one, worst case we compare all actual elements.
-      // actualElementsGroupedByHashCode must be initialized for each expectedElement, as we remove elements from its
-      // entries when a match with expectedElement is found, the next expectedElement comparison is done on a smaller
-      // set of entries which leads to incorrect results.
-      Map<Integer, ? extends List<?>> actualElementsGroupedByHashCode = actualElementsGroupedByHashCode(actual);
       Integer expectedHash = Objects.hashCode(expectedElement);
       List<?> actualHashBucket = actualElementsGroupedByHashCode.get(expectedHash);
       if (actualHashBucket != null) {
@@ -590,15 +701,15 @@ public class RecursiveComparisonDifferenceCalculator {
     while (actualIterator.hasNext()) {
       Object actualElement = actualIterator.next();
       // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+      // elements are fully compared, stopping at the first difference would leave fewer visited dual values and differences
+      // registered which changes the outcome of comparing the next elements.
       List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement,
                                                                     dualValue.fieldLocation,
                                                                     comparisonState.visitedDualValues,
-                                                                    comparisonState.recursiveComparisonConfiguration);
-      if (differences.isEmpty()) {
-        // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
-        actualIterator.remove();
-        return true;
-      }
+                                                                    comparisonState.recursiveComparisonConfiguration,
+                                                                    Integer.MAX_VALUE);
+      // found an element in actual matching expectedElement
+      if (differences.isEmpty()) return true;
     }
     return false;
   }
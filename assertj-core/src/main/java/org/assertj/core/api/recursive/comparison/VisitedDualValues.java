@@ -12,38 +12,126 @@
  */
 package org.assertj.core.api.recursive.comparison;
 
+import static java.lang.String.format;
+import static java.lang.System.identityHashCode;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import static java.lang.String.format;
+import java.util.concurrent.ConcurrentHashMap;
 
 class VisitedDualValues {
 
-  private final List<VisitedDualValue> dualValues;
+  // visited dual values are indexed by the identity of their actual and expected values (agnostic of their location) to take
+  // care of values visited several times, this gives constant time lookups instead of scanning all the visited dual values.
+  private final Map<DualValueIdentity, VisitedDualValue> dualValues;
+  // only set when comparing a subtree in parallel, see forSubtree
+  private final SubtreesLookups subtreesLookups;
 
   VisitedDualValues() {
-    this.dualValues = new ArrayList<>();
+    this.dualValues = new HashMap<>();
+    this.subtreesLookups = null;
+  }
+
+  private VisitedDualValues(VisitedDualValues visitedDualValues, SubtreesLookups subtreesLookups) {
+    this.dualValues = new HashMap<>();
+    visitedDualValues.dualValues.forEach((identity, visitedDualValue) -> dualValues.put(identity, visitedDualValue.copy()));
+    this.subtreesLookups = subtreesLookups;
+  }
+
+  /**
+   * Returns a copy of these visited dual values to compare a subtree independently of the other subtrees, the copy also
+   * records the potential cycling dual values looked up from the subtree in the given lookups shared by all the subtrees to
+   * detect subtrees sharing values.
+   *
+   * @param subtreesLookups the lookups shared by all the subtrees compared in parallel
+   * @return a copy of these visited dual values recording the subtree lookups
+   */
+  VisitedDualValues forSubtree(SubtreesLookups subtreesLookups) {
+    return new VisitedDualValues(this, subtreesLookups);
+  }
+
+  /**
+   * Returns true if this subtree and another one have looked up the same potential cycling dual values, in that case the
+   * differences found comparing the subtrees independently might not be the ones found comparing them one after the other.
+   *
+   * @return true if at least two subtrees have looked up the same dual values
+   */
+  boolean subtreesShareDualValues() {
+    return subtreesLookups != null && subtreesLookups.dualValuesShared();
   }
 
   void registerVisitedDualValue(DualValue dualValue) {
-    this.dualValues.add(new VisitedDualValue(dualValue));
+    // only keep the first registration of the same values to be consistent with the lookups
+    this.dualValues.putIfAbsent(new DualValueIdentity(dualValue), new VisitedDualValue(dualValue));
   }
 
   void registerComparisonDifference(DualValue dualValue, ComparisonDifference comparisonDifference) {
-    this.dualValues.stream()
-                   // register difference on dual values agnostic of location, to take care of values visited several times
-                   .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                   .findFirst()
-                   .ifPresent(visitedDualValue -> visitedDualValue.comparisonDifferences.add(comparisonDifference));
+    // register difference on dual values agnostic of location, to take care of values visited several times
+    VisitedDualValue visitedDualValue = this.dualValues.get(new DualValueIdentity(dualValue));
+    if (visitedDualValue != null) visitedDualValue.comparisonDifferences.add(comparisonDifference);
   }
 
   Optional<List<ComparisonDifference>> registeredComparisonDifferencesOf(DualValue dualValue) {
-    return this.dualValues.stream()
-                          // use sameValues to get already visited dual values with different location
-                          .filter(visitedDualValue -> visitedDualValue.dualValue.sameValues(dualValue))
-                          .findFirst()
-                          .map(visitedDualValue -> visitedDualValue.comparisonDifferences);
+    // use the values identity to get already visited dual values with different location
+    DualValueIdentity dualValueIdentity = new DualValueIdentity(dualValue);
+    VisitedDualValue visitedDualValue = this.dualValues.get(dualValueIdentity);
+    // only potential cycling values are registered as visited, other values can't be found by another subtree
+    if (visitedDualValue == null && subtreesLookups != null && dualValue.hasPotentialCyclingValues()) {
+      subtreesLookups.lookedUp(dualValueIdentity, this);
+    }
+    return Optional.ofNullable(visitedDualValue).map(visited -> visited.comparisonDifferences);
+  }
+
+  /**
+   * Records which subtree looked up potential cycling dual values first, shared by subtrees compared in parallel so that
+   * they can stop as soon as two of them share a dual value.
+   */
+  static final class SubtreesLookups {
+    private final Map<DualValueIdentity, VisitedDualValues> lookedUpDualValues = new ConcurrentHashMap<>();
+    private volatile boolean dualValuesShared;
+
+    private void lookedUp(DualValueIdentity dualValueIdentity, VisitedDualValues subtreeVisitedDualValues) {
+      VisitedDualValues firstSubtreeVisitedDualValues = lookedUpDualValues.putIfAbsent(dualValueIdentity, subtreeVisitedDualValues);
+      if (firstSubtreeVisitedDualValues != null && firstSubtreeVisitedDualValues != subtreeVisitedDualValues) {
+        dualValuesShared = true;
+      }
+    }
+
+    boolean dualValuesShared() {
+      return dualValuesShared;
+    }
+  }
+
+  /**
+   * Key matching {@link DualValue#sameValues(DualValue)} semantics, that is actual and expected values are compared by
+   * reference and the field location is ignored.
+   */
+  private static final class DualValueIdentity {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    DualValueIdentity(DualValue dualValue) {
+      this.actual = dualValue.actual;
+      this.expected = dualValue.expected;
+      this.hashCode = 31 * identityHashCode(actual) + identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) return true;
+      if (!(other instanceof DualValueIdentity)) return false;
+      DualValueIdentity that = (DualValueIdentity) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 
   private static class VisitedDualValue {
@@ -55,6 +143,12 @@ class VisitedDualValues {
       this.comparisonDifferences = new ArrayList<>();
     }
 
+    VisitedDualValue copy() {
+      VisitedDualValue copy = new VisitedDualValue(dualValue);
+      copy.comparisonDifferences.addAll(comparisonDifferences);
+      return copy;
+    }
+
     @Override
     public String toString() {
       return format("VisitedDualValue[dualValue=%s, comparisonDifferences=%s]", this.dualValue, this.comparisonDifferences);
@@ -39,14 +39,17 @@ public class Configuration {
   // default values
   public static final int MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION = 80;
   public static final int MAX_ELEMENTS_FOR_PRINTING = 1000;
+  public static final int MAX_CHARACTERS_FOR_PRINTING = 1_000_000;
   public static final int MAX_INDICES_FOR_PRINTING = 50;
   public static final boolean REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE = true;
+  public static final boolean LIGHTWEIGHT_STACK_TRACES = false;
   public static final boolean ALLOW_COMPARING_PRIVATE_FIELDS = true;
   public static final boolean ALLOW_EXTRACTING_PRIVATE_FIELDS = true;
   public static final boolean BARE_NAME_PROPERTY_EXTRACTION_ENABLED = true;
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
+  public static final int MAX_LINES_FOR_CONTENT_DIFF = 100_000;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
 
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
@@ -56,13 +59,16 @@ public class Configuration {
   private boolean extractingPrivateFields;
   private boolean bareNamePropertyExtraction;
   private boolean removeAssertJRelatedElementsFromStackTrace;
+  private boolean lightweightStackTraces;
   private boolean lenientDateParsing;
   private List<DateFormat> additionalDateFormats;
   private int maxLengthForSingleLineDescription;
   private int maxElementsForPrinting;
+  private int maxCharactersForPrinting;
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
+  private int maxLinesForContentDiff;
   private PreferredAssumptionException preferredAssumptionException;
 
   public Configuration() {
@@ -77,13 +83,16 @@ public class Configuration {
     extractingPrivateFields = ALLOW_EXTRACTING_PRIVATE_FIELDS;
     bareNamePropertyExtraction = BARE_NAME_PROPERTY_EXTRACTION_ENABLED;
     removeAssertJRelatedElementsFromStackTrace = REMOVE_ASSERTJ_RELATED_ELEMENTS_FROM_STACK_TRACE;
+    lightweightStackTraces = LIGHTWEIGHT_STACK_TRACES;
     lenientDateParsing = LENIENT_DATE_PARSING;
     additionalDateFormats = emptyList();
     maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
+    maxCharactersForPrinting = MAX_CHARACTERS_FOR_PRINTING;
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+    maxLinesForContentDiff = MAX_LINES_FOR_CONTENT_DIFF;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
   }
 
@@ -196,6 +205,33 @@ public class Configuration {
     this.removeAssertJRelatedElementsFromStackTrace = removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * Returns whether assertion errors use lightweight stack traces.
+   * Default is {@value #LIGHTWEIGHT_STACK_TRACES}.
+   * <p>
+   * See {@link Assertions#setLightweightStackTraces(boolean)} for a detailed description.
+   *
+   * @return whether assertion errors use lightweight stack traces.
+   * @since 3.27.0
+   */
+  public boolean lightweightStackTracesEnabled() {
+    return lightweightStackTraces;
+  }
+
+  /**
+   * Sets whether assertion errors use lightweight stack traces.
+   * <p>
+   * See {@link Assertions#setLightweightStackTraces(boolean)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param lightweightStackTraces whether assertion errors use lightweight stack traces.
+   * @since 3.27.0
+   */
+  public void setLightweightStackTraces(boolean lightweightStackTraces) {
+    this.lightweightStackTraces = lightweightStackTraces;
+  }
+
   /**
    * Returns whether AssertJ will use lenient parsing mode for default date formats.
    * Default is {@value #LENIENT_DATE_PARSING}.
@@ -309,6 +345,34 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many characters at most the representation of one iterable/array/map will have in error messages.
+   * <p>
+   * Default is {@value #MAX_CHARACTERS_FOR_PRINTING}.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   *
+   * @return the maximum number of characters of an iterable/array/map representation.
+   * @since 3.27.0
+   */
+  public int maxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
+  /**
+   * Sets how many characters at most the representation of one iterable/array/map will have in error messages.
+   * <p>
+   * See {@link Assertions#setMaxCharactersForPrinting(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxCharactersForPrinting the maximum number of characters of an iterable/array/map representation.
+   * @since 3.27.0
+   */
+  public void setMaxCharactersForPrinting(int maxCharactersForPrinting) {
+    this.maxCharactersForPrinting = maxCharactersForPrinting;
+  }
+
   public boolean printAssertionsDescription() {
     return printAssertionsDescription;
   }
@@ -350,6 +414,31 @@ public class Configuration {
     this.maxStackTraceElementsDisplayed = maxStackTraceElementsDisplayed;
   }
 
+  /**
+   * Returns the maximum number of lines of each content compared after their first difference when diffing textual contents.
+   * Default is {@value #MAX_LINES_FOR_CONTENT_DIFF}.
+   * <p>
+   * See {@link Assertions#setMaxLinesForContentDiff(int)} for a detailed description.
+   *
+   * @return the maximum number of lines of each content compared after their first difference.
+   */
+  public int maxLinesForContentDiff() {
+    return maxLinesForContentDiff;
+  }
+
+  /**
+   * Sets the maximum number of lines of each content compared after their first difference when diffing textual contents.
+   * <p>
+   * See {@link Assertions#setMaxLinesForContentDiff(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLinesForContentDiff the maximum number of lines of each content compared after their first difference.
+   */
+  public void setMaxLinesForContentDiff(int maxLinesForContentDiff) {
+    this.maxLinesForContentDiff = maxLinesForContentDiff;
+  }
+
   /**
    * Returns which exception is thrown if an assumption is not met. 
    * <p>
@@ -384,12 +473,15 @@ public class Configuration {
     Assertions.setExtractBareNamePropertyMethods(bareNamePropertyExtractionEnabled());
     Assertions.setLenientDateParsing(lenientDateParsingEnabled());
     Assertions.setMaxElementsForPrinting(maxElementsForPrinting());
+    Assertions.setMaxCharactersForPrinting(maxCharactersForPrinting());
     Assertions.setMaxLengthForSingleLineDescription(maxLengthForSingleLineDescription());
     Assertions.setRemoveAssertJRelatedElementsFromStackTrace(removeAssertJRelatedElementsFromStackTraceEnabled());
+    Assertions.setLightweightStackTraces(lightweightStackTracesEnabled());
     Assertions.useRepresentation(representation());
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed());
+    Assertions.setMaxLinesForContentDiff(maxLinesForContentDiff());
     // reset the default date formats otherwise a custom config would register them and when another config is applied it would
     // add to the previous config date formats
     AbstractDateAssert.useDefaultDateFormatsOnly();
@@ -415,10 +507,13 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- maxCharactersForPrinting ........................ = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
+                  "- maxLinesForContentDiff .......................... = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
+                  "- lightweightStackTracesEnabled ................... = %s%n" +
                   "- preferredAssumptionException .................... = %s%n",
                   getClass().getName(),
                   representation(),
@@ -429,10 +524,13 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  maxCharactersForPrinting(),
                   maxStackTraceElementsDisplayed(),
+                  maxLinesForContentDiff(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
+                  lightweightStackTracesEnabled(),
                   preferredAssumptionException());
   }
 
@@ -52,6 +52,10 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                     .collect(toList())).with(format("%n%n"));
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
     String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
+    // the comparison stops as soon as it has found the maximum number of differences
+    String comparisonStop = differences.size() >= recursiveComparisonConfiguration.getMaxDifferences()
+        ? "The comparison stopped after finding the maximum number of differences, other differences may not be reported.%n%n"
+        : "";
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
                                                                "Expecting actual:%n" +
@@ -62,6 +66,7 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                "%n" +
                                                                escapePercent(differencesDescription) + "%n" +
                                                                "%n"+
+                                                               comparisonStop +
                                                                "The recursive comparison was performed with this configuration:%n" +
                                                                recursiveComparisonConfigurationDescription, // don't use %s to avoid AssertJ formatting String with ""
                                                                actual, other, differences.size());
@@ -70,9 +70,12 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.PrimitiveArrayElements.canCompareUnboxed;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsOf;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayEmpty;
+import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.Arrays.sizeOf;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -199,6 +202,7 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canCompareUnboxed(actual, values, comparisonStrategy) && elementsOf(values).areAllIn(elementsOf(actual))) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -246,6 +250,11 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
+    if (canCompareUnboxed(actual, values, comparisonStrategy)) {
+      PrimitiveArrayElements actualElements = elementsOf(actual);
+      PrimitiveArrayElements valuesElements = elementsOf(values);
+      if (actualElements.areAllIn(valuesElements) && valuesElements.areAllIn(actualElements)) return;
+    }
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -279,6 +288,7 @@ public class Arrays {
     if (commonChecks(info, failures, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (canCompareUnboxed(actual, values, comparisonStrategy) && elementsOf(actual).isEqualTo(elementsOf(values))) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -300,19 +310,11 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, failures, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff<Object> diff = diff(asList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
-    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+    throw failures.failure(info, shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected,
+                                                                comparisonStrategy));
   }
 
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
@@ -347,41 +349,29 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
+    if (indexOfSequence(actual, sequence) == -1) {
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
     }
-    throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, failures, actual, sequence)) return;
 
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
+    int sequenceIndex = indexOfSequence(actual, sequence);
+    if (sequenceIndex != -1) {
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceIndex, comparisonStrategy));
     }
   }
 
-  /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
-   * @param actualArray the actual array to search sequence in
-   * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex))) continue;
-      return false;
+  // returns the index where the sequence starts in actual or -1 if actual does not contain it
+  private int indexOfSequence(Object actual, Object sequence) {
+    if (canCompareUnboxed(actual, sequence, comparisonStrategy)) return elementsOf(actual).indexOfSequence(elementsOf(sequence));
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(asList(sequence).toArray(), comparisonStrategy);
+    int sizeOfActual = sizeOf(actual);
+    for (int actualIndex = 0; actualIndex < sizeOfActual; actualIndex++) {
+      if (sequenceMatcher.matchesWith(Array.get(actual, actualIndex))) return actualIndex - sizeOf(sequence) + 1;
     }
-    return true;
+    return -1;
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -392,13 +382,17 @@ public class Arrays {
     if (sizeOfActual < sizeOfSubsequence) {
       throw failures.failure(info, actualDoesNotHaveEnoughElementsToContainSubsequence(actual, subsequence));
     }
-    int actualIndex = 0;
     int subsequenceIndex = 0;
-    while (actualIndex < sizeOfActual && subsequenceIndex < sizeOfSubsequence) {
-      if (areEqual(Array.get(actual, actualIndex), Array.get(subsequence, subsequenceIndex))) {
-        subsequenceIndex++;
+    if (canCompareUnboxed(actual, subsequence, comparisonStrategy)) {
+      subsequenceIndex = elementsOf(actual).countSubsequenceElementsFound(elementsOf(subsequence));
+    } else {
+      int actualIndex = 0;
+      while (actualIndex < sizeOfActual && subsequenceIndex < sizeOfSubsequence) {
+        if (areEqual(Array.get(actual, actualIndex), Array.get(subsequence, subsequenceIndex))) {
+          subsequenceIndex++;
+        }
+        actualIndex++;
       }
-      actualIndex++;
     }
     if (subsequenceIndex < sizeOfSubsequence) { // only subsequenceIndex subsequence elements were found
       throw failures.failure(info, shouldContainSubsequence(actual, subsequence, subsequenceIndex, comparisonStrategy));
@@ -425,6 +419,10 @@ public class Arrays {
 
   void assertDoesNotContainSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
     if (commonChecks(info, failures, actual, subsequence)) return;
+    if (canCompareUnboxed(actual, subsequence, comparisonStrategy)) {
+      PrimitiveArrayElements subsequenceElements = elementsOf(subsequence);
+      if (elementsOf(actual).countSubsequenceElementsFound(subsequenceElements) < subsequenceElements.size) return;
+    }
 
     int sizeOfActual = sizeOf(actual);
     int sizeOfSubsequence = sizeOf(subsequence);
@@ -460,6 +458,7 @@ public class Arrays {
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
+    if (canCompareUnboxed(array, values, comparisonStrategy) && !elementsOf(values).isAnyIn(elementsOf(array))) return;
     Set<Object> found = new LinkedHashSet<>();
     int valuesSize = sizeOf(values);
     for (int i = 0; i < valuesSize; i++) {
@@ -678,6 +677,11 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (isArrayTypePrimitive(array)) {
+      int unsortedElementIndex = elementsOf(array).indexOfFirstUnsortedElement();
+      if (unsortedElementIndex != -1) throw failures.failure(info, shouldBeSorted(unsortedElementIndex, array));
+      return;
+    }
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
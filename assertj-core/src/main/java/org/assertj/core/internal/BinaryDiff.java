@@ -12,8 +12,6 @@
  */
 package org.assertj.core.internal;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -30,6 +28,10 @@ import org.assertj.core.util.VisibleForTesting;
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  // contents are read and compared block by block rather than byte by byte
+  private static final int BLOCK_SIZE = 8192;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -37,27 +39,75 @@ public class BinaryDiff {
 
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
-    try (InputStream actualStream = new BufferedInputStream(Files.newInputStream(actual))) {
+    // no need to buffer the stream as it is read by blocks
+    try (InputStream actualStream = Files.newInputStream(actual)) {
       return diff(actualStream, expected);
     }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
-    try (InputStream expectedStream = new ByteArrayInputStream(expected)) {
-      return diff(actualStream, expectedStream);
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    int offset = 0;
+    while (true) {
+      int actualBlockLength = readBlock(actualStream, actualBlock);
+      int expectedBlockLength = Math.min(BLOCK_SIZE, expected.length - offset);
+      BinaryDiffResult blockDiff = diff(offset, actualBlock, 0, actualBlockLength, expected, offset, expectedBlockLength);
+      if (blockDiff != null) return blockDiff;
+      if (actualBlockLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both contents
+      offset += BLOCK_SIZE;
     }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    int offset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualBlockLength = readBlock(actualStream, actualBlock);
+      int expectedBlockLength = readBlock(expectedStream, expectedBlock);
+      BinaryDiffResult blockDiff = diff(offset, actualBlock, 0, actualBlockLength, expectedBlock, 0, expectedBlockLength);
+      if (blockDiff != null) return blockDiff;
+      if (actualBlockLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      offset += BLOCK_SIZE;
+    }
+  }
+
+  /**
+   * Compares blocks starting at the given offset of the contents, a block shorter than the other one means that its content
+   * has been fully read.
+   *
+   * @return the first difference found or null if both blocks are the same.
+   */
+  private static BinaryDiffResult diff(int offset, byte[] actual, int actualFrom, int actualLength,
+                                       byte[] expected, int expectedFrom, int expectedLength) {
+    int commonLength = Math.min(actualLength, expectedLength);
+    for (int i = 0; i < commonLength; i++) {
+      if (actual[actualFrom + i] != expected[expectedFrom + i]) {
+        return new BinaryDiffResult(offset + i, unsigned(expected[expectedFrom + i]), unsigned(actual[actualFrom + i]));
+      }
     }
+    if (actualLength == expectedLength) return null;
+    // one of the contents is shorter than the other, we have reached its end
+    int expectedByte = expectedLength > commonLength ? unsigned(expected[expectedFrom + commonLength]) : EOF;
+    int actualByte = actualLength > commonLength ? unsigned(actual[actualFrom + commonLength]) : EOF;
+    return new BinaryDiffResult(offset + commonLength, expectedByte, actualByte);
+  }
+
+  // fills the given block unless the end of the stream is reached, returns the number of bytes read
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int bytesRead = stream.read(block, length, block.length - length);
+      if (bytesRead == EOF) break;
+      length += bytesRead;
+    }
+    return length;
+  }
+
+  // same format as InputStream.read(), i.e. in the range 0 to 255
+  private static int unsigned(byte b) {
+    return b & 0xFF;
   }
 }
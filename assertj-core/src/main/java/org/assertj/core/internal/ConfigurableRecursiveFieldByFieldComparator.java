@@ -25,6 +25,9 @@ import org.assertj.core.util.introspection.IntrospectionError;
 
 /**
  * Compares objects field/property by field/property recursively based on the given {@link RecursiveComparisonConfiguration} allowing fine tuning of the comparison.
+ * <p>
+ * This comparator only tells whether objects are equal, it does not order them nor count their differences: {@link #compare(Object, Object)}
+ * returns 0 for equal objects and -1 otherwise, the recursive comparison stops at the first difference found.
  */
 public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<Object> {
 
@@ -43,6 +46,16 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
     this(configuration, new RecursiveComparisonDifferenceCalculator());
   }
 
+  /**
+   * Returns 0 if the given objects are equal according to the recursive comparison and -1 otherwise.
+   * <p>
+   * The returned value is neither an ordering nor the number of differences, the recursive comparison stops at the first
+   * difference found as a single one is enough to know the objects are not equal.
+   *
+   * @param actual the first object to compare
+   * @param other the second object to compare
+   * @return 0 if the given objects are equal, -1 otherwise.
+   */
   @Override
   public int compare(Object actual, Object other) {
     if (actual == null && other == null) return 0;
@@ -52,7 +65,7 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
 
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      return recursiveComparisonDifferenceCalculator.areEqual(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * {@link AssertionError} created without a stack trace, used for failures that are caught by AssertJ to compute
+ * another assertion result (for example in {@code anySatisfy}) and are very likely never going to be reported.
+ * <p>
+ * If the error ends up being reported after all (a soft assertion collecting it for example), its stack trace can
+ * still be captured from where it is reported with {@link #captureStackTrace()}.
+ */
+class DeferredStackTraceAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient boolean captureStackTrace;
+
+  DeferredStackTraceAssertionError(String message) {
+    super(message);
+  }
+
+  void captureStackTrace() {
+    captureStackTrace = true;
+    fillInStackTrace();
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    // called by the Throwable constructor before captureStackTrace is initialized, thus skipping the stack walk
+    return captureStackTrace ? super.fillInStackTrace() : this;
+  }
+}
@@ -13,8 +13,10 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -27,10 +29,16 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.TruncatedDelta;
 
 /**
  * Compares the contents of two files, inputStreams or paths.
@@ -46,6 +54,8 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  private static volatile int maxLinesForContentDiff = Configuration.MAX_LINES_FOR_CONTENT_DIFF;
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -84,23 +94,113 @@ public class Diff {
     return new BufferedReader(new StringReader(string));
   }
 
+  /**
+   * Sets the maximum number of lines of each content read after their first difference to compute the diff, it limits the
+   * memory used and the time spent diffing huge contents. Contents are compared line by line until their first difference
+   * without keeping their lines in memory.
+   *
+   * @param maxLinesForContentDiff the maximum number of lines compared after the first difference, must be greater than 0.
+   */
+  public static void setMaxLinesForContentDiff(int maxLinesForContentDiff) {
+    checkArgument(maxLinesForContentDiff > 0, "maxLinesForContentDiff must be greater than 0 but was %s",
+                  maxLinesForContentDiff);
+    Diff.maxLinesForContentDiff = maxLinesForContentDiff;
+  }
+
+  public static int getMaxLinesForContentDiff() {
+    return maxLinesForContentDiff;
+  }
+
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
+      // skip the common prefix without keeping it in memory, identical contents are compared in one pass
+      int commonPrefixSize = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonPrefixSize++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+
+      int maxLines = maxLinesForContentDiff;
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual, maxLines);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected, maxLines);
+      boolean truncated = actualLines.size() > maxLines || expectedLines.size() > maxLines;
+      if (truncated) return truncatedDiff(actualLines, expectedLines, commonPrefixSize, maxLines);
 
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      // skip the common suffix, only the differing window is diffed
+      int commonSuffixSize = 0;
+      while (commonSuffixSize < actualLines.size() && commonSuffixSize < expectedLines.size()
+             && actualLines.get(actualLines.size() - 1 - commonSuffixSize)
+                           .equals(expectedLines.get(expectedLines.size() - 1 - commonSuffixSize))) {
+        commonSuffixSize++;
+      }
+      Patch<String> patch = DiffUtils.diff(expectedLines.subList(0, expectedLines.size() - commonSuffixSize),
+                                           actualLines.subList(0, actualLines.size() - commonSuffixSize));
+      return unmodifiableList(shift(patch.getDeltas(), commonPrefixSize));
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  // the lines after the common prefix are not entirely known, we can't skip the common suffix and the deltas found at the
+  // end of the compared lines of a truncated content might only be due to the lines that were not read, the end of a content
+  // that was entirely read is its actual end though.
+  private static List<Delta<String>> truncatedDiff(List<String> actualLines, List<String> expectedLines, int commonPrefixSize,
+                                                   int maxLines) {
+    boolean actualTruncated = actualLines.size() > maxLines;
+    boolean expectedTruncated = expectedLines.size() > maxLines;
+    List<String> comparedActualLines = actualLines.subList(0, Math.min(actualLines.size(), maxLines));
+    List<String> comparedExpectedLines = expectedLines.subList(0, Math.min(expectedLines.size(), maxLines));
+    List<Delta<String>> deltas = new ArrayList<>();
+    int truncatedPosition = comparedExpectedLines.size();
+    for (Delta<String> delta : DiffUtils.diff(comparedExpectedLines, comparedActualLines).getDeltas()) {
+      if (expectedTruncated && reachesEndOf(delta.getOriginal(), comparedExpectedLines)
+          || actualTruncated && reachesEndOf(delta.getRevised(), comparedActualLines)) {
+        truncatedPosition = delta.getOriginal().getPosition();
+        break;
+      }
+      deltas.add(delta);
+    }
+    deltas = shift(deltas, commonPrefixSize);
+    deltas.add(new TruncatedDelta<>(commonPrefixSize + truncatedPosition, maxLines));
+    return unmodifiableList(deltas);
+  }
+
+  private static boolean reachesEndOf(Chunk<String> chunk, List<String> lines) {
+    return chunk.getPosition() + chunk.size() >= lines.size();
+  }
+
+  // deltas positions are relative to the diffed lines, shift them to be relative to the whole contents
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int offset) {
+    if (offset == 0) return new ArrayList<>(deltas);
+    List<Delta<String>> shiftedDeltas = new ArrayList<>(deltas.size());
+    for (Delta<String> delta : deltas) {
+      Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + offset, delta.getOriginal().getLines());
+      Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + offset, delta.getRevised().getLines());
+      switch (delta.getType()) {
+      case INSERT:
+        shiftedDeltas.add(new InsertDelta<>(original, revised));
+        break;
+      case DELETE:
+        shiftedDeltas.add(new DeleteDelta<>(original, revised));
+        break;
+      default:
+        shiftedDeltas.add(new ChangeDelta<>(original, revised));
+      }
+    }
+    return shiftedDeltas;
+  }
+
+  // reads the given first line and the next ones up to maxLines + 1 lines to know if there were more than maxLines lines
+  private static List<String> linesFromBufferedReader(String firstLine, BufferedReader reader, int maxLines) throws IOException {
     List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
+    String line = firstLine;
+    while (line != null && lines.size() <= maxLines) {
       lines.add(line);
+      if (lines.size() <= maxLines) line = reader.readLine();
     }
     return lines;
   }
@@ -28,6 +28,7 @@ import org.assertj.core.error.AssertionErrorFactory;
 import org.assertj.core.error.ErrorMessageFactory;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.Throwables;
 import org.assertj.core.util.VisibleForTesting;
 
@@ -43,6 +44,9 @@ public class Failures {
 
   private static final Failures INSTANCE = new Failures();
 
+  // how many catchIntermediateFailure calls the current thread is running
+  private static final ThreadLocal<int[]> INTERMEDIATE_FAILURES_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
   private AssertionErrorCreator assertionErrorCreator = new AssertionErrorCreator();
 
   /**
@@ -82,6 +86,36 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * flag indicating whether or not we use lightweight stack traces for assertion errors.
+   */
+  private boolean lightweightStackTraces = Configuration.LIGHTWEIGHT_STACK_TRACES;
+
+  /**
+   * Sets whether we use lightweight stack traces for assertion errors, that is:
+   * <ul>
+   * <li>AssertJ related elements are removed from the stack trace by only keeping the first
+   * {@link StandardRepresentation#getMaxStackTraceElementsDisplayed() maxStackTraceElementsDisplayed} user elements
+   * (requires {@link #setRemoveAssertJRelatedElementsFromStackTrace(boolean) removeAssertJRelatedElementsFromStackTrace}),</li>
+   * <li>no stack trace is captured for the intermediate errors caught by AssertJ like the ones thrown by the
+   * requirements of {@code anySatisfy}, except the ones reporting actual and expected values.</li>
+   * </ul>
+   *
+   * @param lightweightStackTraces flag
+   */
+  public void setLightweightStackTraces(boolean lightweightStackTraces) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    this.lightweightStackTraces = lightweightStackTraces;
+  }
+
+  /**
+   * Returns whether or not we use lightweight stack traces for assertion errors.
+   * @return whether or not we use lightweight stack traces for assertion errors.
+   */
+  public boolean isLightweightStackTraces() {
+    return lightweightStackTraces;
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -123,6 +157,7 @@ public class Failures {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
+    if (isIntermediateFailure()) return new DeferredStackTraceAssertionError(assertionErrorMessage);
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
@@ -131,6 +166,7 @@ public class Failures {
 
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory, Object actual, Object expected) {
     String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
+    // not deferred to keep the actual and expected values of the AssertionFailedError if the error ends up reported
     AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage, actual, expected,
                                                                          info.representation());
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
@@ -162,6 +198,7 @@ public class Failures {
    * @return the created <code>{@link AssertionError}</code>.
    */
   public AssertionError failure(String message) {
+    if (isIntermediateFailure()) return new DeferredStackTraceAssertionError(message);
     AssertionError assertionError = assertionErrorCreator.assertionError(message);
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
@@ -178,6 +215,62 @@ public class Failures {
     return failure(format("%s should have been thrown", throwableClass.getSimpleName()));
   }
 
+  /**
+   * Runs the given assertions and returns the {@link AssertionError} they have thrown if any, {@code null} otherwise.
+   * <p>
+   * This is meant for assertions whose failure is only used to compute the result of another assertion (for example
+   * {@code anySatisfy} that fails only if all elements fail the requirements), when lightweight stack traces are
+   * enabled the failures created while running these assertions don't capture any stack trace.
+   *
+   * @param assertions the assertions to run.
+   * @return the {@link AssertionError} thrown by the assertions or {@code null} if they have passed.
+   */
+  public AssertionError catchIntermediateFailure(Runnable assertions) {
+    if (!lightweightStackTraces) return catchFailure(assertions);
+    int[] intermediateFailuresDepth = INTERMEDIATE_FAILURES_DEPTH.get();
+    intermediateFailuresDepth[0]++;
+    try {
+      return catchFailure(assertions);
+    } finally {
+      intermediateFailuresDepth[0]--;
+    }
+  }
+
+  private static AssertionError catchFailure(Runnable assertions) {
+    try {
+      assertions.run();
+      return null;
+    } catch (AssertionError assertionError) {
+      return assertionError;
+    }
+  }
+
+  /**
+   * Returns whether the failures created now are intermediate ones, i.e. created while running the assertions given to
+   * {@link #catchIntermediateFailure(Runnable)} with lightweight stack traces enabled.
+   *
+   * @return whether the failures created now are intermediate ones.
+   */
+  public boolean isIntermediateFailure() {
+    return lightweightStackTraces && INTERMEDIATE_FAILURES_DEPTH.get()[0] > 0;
+  }
+
+  /**
+   * Captures the stack trace of the given {@link AssertionError} if it was created without one by
+   * {@link #catchIntermediateFailure(Runnable)} but ends up being reported (by a soft assertion for example).
+   * <p>
+   * The captured stack trace is the current one, filtered like any other failure.
+   *
+   * @param assertionError the {@code AssertionError} that is going to be reported.
+   */
+  public void captureStackTraceIfDeferred(AssertionError assertionError) {
+    if (!(assertionError instanceof DeferredStackTraceAssertionError)) return;
+    DeferredStackTraceAssertionError deferredStackTraceAssertionError = (DeferredStackTraceAssertionError) assertionError;
+    if (deferredStackTraceAssertionError.getStackTrace().length > 0) return; // already captured
+    deferredStackTraceAssertionError.captureStackTrace();
+    removeAssertJRelatedElementsFromStackTraceIfNeeded(deferredStackTraceAssertionError);
+  }
+
   public void printThreadDumpIfNeeded() {
     if (printThreadDump) System.err.println(threadDumpDescription());
   }
@@ -214,7 +307,11 @@ public class Failures {
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (!removeAssertJRelatedElementsFromStackTrace) return;
+    if (lightweightStackTraces) {
+      Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError,
+                                                            StandardRepresentation.getMaxStackTraceElementsDisplayed());
+    } else {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
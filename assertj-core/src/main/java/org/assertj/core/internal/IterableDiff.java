@@ -15,8 +15,15 @@ package org.assertj.core.internal;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 // immutable
 /**
@@ -31,10 +38,23 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    List<T> actualElements = newArrayList(actual);
+    List<T> expectedElements = newArrayList(expected);
+    // first pair the elements that can be matched without comparing each actual element to each expected one, only the
+    // remaining elements are compared one by one, in the common case of a few differences this is O(N+M) instead of O(N*M)
+    boolean[] matchedActualElements = new boolean[actualElements.size()];
+    boolean[] matchedExpectedElements = new boolean[expectedElements.size()];
+    if (comparisonStrategy.isStandard()) {
+      matchByHashCode(actualElements, expectedElements, matchedActualElements, matchedExpectedElements);
+    } else if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      matchBySorting(actualElements, expectedElements, matchedActualElements, matchedExpectedElements);
+    }
+    List<T> unmatchedActualElements = unmatched(actualElements, matchedActualElements);
+    List<T> unmatchedExpectedElements = unmatched(expectedElements, matchedExpectedElements);
     // return the elements in actual that are not in expected: actual - expected
-    this.unexpected = unexpectedActualElements(actual, expected);
+    this.unexpected = unexpectedActualElements(unmatchedActualElements, unmatchedExpectedElements);
     // return the elements in expected that are not in actual: expected - actual
-    this.missing = missingActualElements(actual, expected);
+    this.missing = missingActualElements(unmatchedActualElements, unmatchedExpectedElements);
   }
 
   static <T> IterableDiff<T> diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
@@ -95,6 +115,71 @@ class IterableDiff<T> {
     return unmodifiableList(missingInExpected);
   }
 
+  // the standard comparison strategy relies on equals which is consistent with hashCode (for arrays, deepEquals is
+  // consistent with deepHashCode), equal expected elements are grouped to match them with actual elements in one lookup.
+  private void matchByHashCode(List<T> actual, List<T> expected, boolean[] matchedActual, boolean[] matchedExpected) {
+    Map<HashKey, Deque<Integer>> expectedIndexesByElement = new HashMap<>();
+    for (int i = 0; i < expected.size(); i++) {
+      expectedIndexesByElement.computeIfAbsent(new HashKey(expected.get(i), comparisonStrategy), key -> new ArrayDeque<>()).add(i);
+    }
+    for (int i = 0; i < actual.size(); i++) {
+      // HashKey.equals compares the looked up actual element to the expected one
+      Deque<Integer> expectedIndexes = expectedIndexesByElement.get(new HashKey(actual.get(i), comparisonStrategy));
+      if (expectedIndexes != null && !expectedIndexes.isEmpty()) {
+        matchedExpected[expectedIndexes.poll()] = true;
+        matchedActual[i] = true;
+      }
+    }
+  }
+
+  // sort both elements with the comparator and merge them, this only works if the comparator is a total order, if it is
+  // not (or it can't compare two actual or two expected elements), few elements get matched and the others are compared
+  // one by one as before.
+  @SuppressWarnings("unchecked")
+  private void matchBySorting(List<T> actual, List<T> expected, boolean[] matchedActual, boolean[] matchedExpected) {
+    Comparator<Object> comparator = (Comparator<Object>) ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+    Integer[] sortedActualIndexes;
+    Integer[] sortedExpectedIndexes;
+    try {
+      sortedActualIndexes = sortedIndexes(actual, comparator);
+      sortedExpectedIndexes = sortedIndexes(expected, comparator);
+    } catch (RuntimeException e) {
+      return;
+    }
+    int actualIndex = 0;
+    int expectedIndex = 0;
+    while (actualIndex < sortedActualIndexes.length && expectedIndex < sortedExpectedIndexes.length) {
+      int comparison = comparator.compare(actual.get(sortedActualIndexes[actualIndex]),
+                                          expected.get(sortedExpectedIndexes[expectedIndex]));
+      if (comparison == 0) {
+        matchedActual[sortedActualIndexes[actualIndex++]] = true;
+        matchedExpected[sortedExpectedIndexes[expectedIndex++]] = true;
+      } else if (comparison < 0) {
+        actualIndex++;
+      } else {
+        expectedIndex++;
+      }
+    }
+  }
+
+  private static <T> Integer[] sortedIndexes(List<T> elements, Comparator<Object> comparator) {
+    Integer[] indexes = new Integer[elements.size()];
+    for (int i = 0; i < indexes.length; i++) {
+      indexes[i] = i;
+    }
+    // stable sort to keep the elements order among equal elements
+    Arrays.sort(indexes, (index1, index2) -> comparator.compare(elements.get(index1), elements.get(index2)));
+    return indexes;
+  }
+
+  private static <T> List<T> unmatched(List<T> elements, boolean[] matched) {
+    List<T> unmatchedElements = new ArrayList<>();
+    for (int i = 0; i < matched.length; i++) {
+      if (!matched[i]) unmatchedElements.add(elements.get(i));
+    }
+    return unmatchedElements;
+  }
+
   private boolean iterableContains(Iterable<?> actual, T expectedElement) {
     return comparisonStrategy.iterableContains(actual, expectedElement);
   }
@@ -102,4 +187,28 @@ class IterableDiff<T> {
   private void iterablesRemoveFirst(Iterable<?> actual, T value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
+
+  private static final class HashKey {
+    private final Object element;
+    private final ComparisonStrategy comparisonStrategy;
+    private final int hashCode;
+
+    HashKey(Object element, ComparisonStrategy comparisonStrategy) {
+      this.element = element;
+      this.comparisonStrategy = comparisonStrategy;
+      this.hashCode = element != null && element.getClass().isArray()
+          ? Arrays.deepHashCode(new Object[] { element })
+          : Objects.hashCode(element);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof HashKey && comparisonStrategy.areEqual(element, ((HashKey) other).element);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
 }
@@ -93,7 +93,6 @@ import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -480,45 +479,19 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
+    // the elements from actual are given one by one to the sequence matcher (because we don't know we can look ahead -
+    // the 'actual' might be singly-traversable) until a match is found or until the 'actual' is exhausted.
+    // Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(info, failures, actual, sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
     while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
+      if (sequenceMatcher.matchesWith(actualIterator.next())) return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private final int maxSize;
-    private final LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -534,13 +507,14 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(sequence, comparisonStrategy);
+    int index = 0;
+    for (Object actualElement : actual) {
+      if (sequenceMatcher.matchesWith(actualElement)) {
+        // report the index where the sequence starts
+        throw actualDoesContainSequence(info, actual, sequence, index - sequence.length + 1);
       }
+      index++;
     }
   }
 
@@ -626,23 +600,6 @@ public class Iterables {
     if (!extra.isEmpty()) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -1189,13 +1146,9 @@ public class Iterables {
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
 
-  private static <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
-    try {
-      requirements.accept(element);
-    } catch (AssertionError ex) {
-      return Optional.of(new UnsatisfiedRequirement(element, ex.getMessage()));
-    }
-    return Optional.empty();
+  private <E> Optional<UnsatisfiedRequirement> failsRequirements(Consumer<? super E> requirements, E element) {
+    AssertionError ex = failures.catchIntermediateFailure(() -> requirements.accept(element));
+    return ex == null ? Optional.empty() : Optional.of(new UnsatisfiedRequirement(element, ex.getMessage()));
   }
 
   public <E> void assertSatisfiesExactly(AssertionInfo info, Iterable<? extends E> actual,
@@ -1293,12 +1246,8 @@ public class Iterables {
   private <ACTUAL_ELEMENT, OTHER_ELEMENT> Optional<ZipSatisfyError> failsZipRequirements(ACTUAL_ELEMENT actualElement,
                                                                                          OTHER_ELEMENT otherElement,
                                                                                          BiConsumer<ACTUAL_ELEMENT, OTHER_ELEMENT> zipRequirements) {
-    try {
-      zipRequirements.accept(actualElement, otherElement);
-      return Optional.empty();
-    } catch (AssertionError ex) {
-      return Optional.of(new ZipSatisfyError(actualElement, otherElement, ex.getMessage()));
-    }
+    AssertionError ex = failures.catchIntermediateFailure(() -> zipRequirements.accept(actualElement, otherElement));
+    return ex == null ? Optional.empty() : Optional.of(new ZipSatisfyError(actualElement, otherElement, ex.getMessage()));
   }
 
   public <E> void assertAnySatisfy(AssertionInfo info, Iterable<? extends E> actual, Consumer<? super E> requirements) {
@@ -1339,12 +1288,8 @@ public class Iterables {
   }
 
   private <E> Optional<E> failsRestrictions(E element, Consumer<? super E> restrictions) {
-    try {
-      restrictions.accept(element);
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
-      return Optional.empty();
-    }
+    // element is supposed not to meet the given restrictions
+    if (failures.catchIntermediateFailure(() -> restrictions.accept(element)) != null) return Optional.empty();
     // element meets the given restrictions!
     return Optional.of(element);
   }
@@ -1395,20 +1340,11 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff<Object> diff = diff(newArrayList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
@@ -1428,14 +1364,7 @@ public class Iterables {
   }
 
   public static <T> Predicate<T> byPassingAssertions(Consumer<? super T> assertions) {
-    return objectToTest -> {
-      try {
-        assertions.accept(objectToTest);
-        return true;
-      } catch (AssertionError e) {
-        return false;
-      }
-    };
+    return objectToTest -> Failures.instance().catchIntermediateFailure(() -> assertions.accept(objectToTest)) == null;
   }
 
   private static void checkIsNotEmptySequence(Object[] sequence) {
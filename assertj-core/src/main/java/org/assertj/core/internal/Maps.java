@@ -110,14 +110,10 @@ public class Maps {
       throw failures.failure(info, elementsShouldSatisfy(actual, unsatisfiedRequirements, info));
   }
 
-  private static <K, V> Optional<UnsatisfiedRequirement> failsRequirements(BiConsumer<? super K, ? super V> entryRequirements,
-                                                                           Entry<K, V> entry) {
-    try {
-      entryRequirements.accept(entry.getKey(), entry.getValue());
-    } catch (AssertionError ex) {
-      return Optional.of(new UnsatisfiedRequirement(entry, ex.getMessage()));
-    }
-    return Optional.empty();
+  private <K, V> Optional<UnsatisfiedRequirement> failsRequirements(BiConsumer<? super K, ? super V> entryRequirements,
+                                                                    Entry<K, V> entry) {
+    AssertionError ex = failures.catchIntermediateFailure(() -> entryRequirements.accept(entry.getKey(), entry.getValue()));
+    return ex == null ? Optional.empty() : Optional.of(new UnsatisfiedRequirement(entry, ex.getMessage()));
   }
 
   public <K, V> void assertAnySatisfy(AssertionInfo info, Map<K, V> actual,
@@ -150,12 +146,9 @@ public class Maps {
 
   private <V, K> Optional<Entry<K, V>> failsRestrictions(Entry<K, V> entry,
                                                          BiConsumer<? super K, ? super V> entryRequirements) {
-    try {
-      entryRequirements.accept(entry.getKey(), entry.getValue());
-    } catch (AssertionError e) {
-      // element is supposed not to meet the given restrictions
+    // element is supposed not to meet the given restrictions
+    if (failures.catchIntermediateFailure(() -> entryRequirements.accept(entry.getKey(), entry.getValue())) != null)
       return Optional.empty();
-    }
     // element meets the given restrictions!
     return Optional.of(entry);
   }
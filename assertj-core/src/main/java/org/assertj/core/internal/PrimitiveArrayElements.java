@@ -0,0 +1,354 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
+
+/**
+ * Reads the elements of a primitive array without boxing them, so that assertions on huge primitive arrays don't allocate
+ * a wrapper per element.
+ * <p>
+ * Elements are read as {@code long} values: two elements of arrays of the same primitive type are equal according to the
+ * standard comparison strategy if and only if their {@code long} values are equal. Floating point numbers are read as
+ * their bits, like {@link Double#equals(Object)} and {@link Float#equals(Object)} compare them.
+ * <p>
+ * The algorithms are written once for all the primitive types, each type only defines how to read and order its elements.
+ */
+abstract class PrimitiveArrayElements {
+
+  final int size;
+
+  private PrimitiveArrayElements(int size) {
+    this.size = size;
+  }
+
+  /**
+   * Returns whether the elements of the given arrays can be compared without boxing them, which is the case when the
+   * standard comparison strategy is used and both arrays have the same primitive component type.
+   *
+   * @param actual the actual array.
+   * @param other the array to compare actual to.
+   * @param comparisonStrategy the comparison strategy used to compare the arrays elements.
+   * @return whether the elements of the given arrays can be compared without boxing them.
+   */
+  static boolean canCompareUnboxed(Object actual, Object other, ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy.isStandard() && actual.getClass() == other.getClass() && isArrayTypePrimitive(actual);
+  }
+
+  static PrimitiveArrayElements elementsOf(Object array) {
+    if (array instanceof int[]) return new IntArrayElements((int[]) array);
+    if (array instanceof long[]) return new LongArrayElements((long[]) array);
+    if (array instanceof double[]) return new DoubleArrayElements((double[]) array);
+    if (array instanceof byte[]) return new ByteArrayElements((byte[]) array);
+    if (array instanceof float[]) return new FloatArrayElements((float[]) array);
+    if (array instanceof short[]) return new ShortArrayElements((short[]) array);
+    if (array instanceof char[]) return new CharArrayElements((char[]) array);
+    if (array instanceof boolean[]) return new BooleanArrayElements((boolean[]) array);
+    throw new IllegalArgumentException("Expecting a primitive array but was: " + array.getClass().getName());
+  }
+
+  /**
+   * Returns the element at the given index as a {@code long}.
+   */
+  abstract long get(int index);
+
+  /**
+   * Compares the elements at the given indices with their natural order (the order of their wrapper type).
+   */
+  abstract int compare(int index, int otherIndex);
+
+  /**
+   * Returns whether these elements are equal to the given ones, in the same order.
+   */
+  boolean isEqualTo(PrimitiveArrayElements other) {
+    if (size != other.size) return false;
+    for (int i = 0; i < size; i++) {
+      if (get(i) != other.get(i)) return false;
+    }
+    return true;
+  }
+
+  boolean contains(long value) {
+    for (int i = 0; i < size; i++) {
+      if (get(i) == value) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether each element is in the given elements.
+   */
+  boolean areAllIn(PrimitiveArrayElements other) {
+    for (int i = 0; i < size; i++) {
+      if (!other.contains(get(i))) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether any element is in the given elements.
+   */
+  boolean isAnyIn(PrimitiveArrayElements other) {
+    for (int i = 0; i < size; i++) {
+      if (other.contains(get(i))) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given sequence or -1 if it is not found, uses the Knuth-Morris-Pratt
+   * algorithm like {@link SequenceMatcher}.
+   */
+  int indexOfSequence(PrimitiveArrayElements sequence) {
+    int[] fallbacks = sequence.fallbacks();
+    int matched = 0;
+    for (int i = 0; i < size; i++) {
+      long element = get(i);
+      while (matched > 0 && element != sequence.get(matched)) {
+        matched = fallbacks[matched - 1];
+      }
+      if (element == sequence.get(matched)) matched++;
+      if (matched == sequence.size) return i - sequence.size + 1;
+    }
+    return -1;
+  }
+
+  // length of the longest proper prefix of the first i + 1 elements that is also a suffix of them
+  private int[] fallbacks() {
+    int[] fallbacks = new int[size];
+    int prefixLength = 0;
+    for (int i = 1; i < size; i++) {
+      while (prefixLength > 0 && get(i) != get(prefixLength)) {
+        prefixLength = fallbacks[prefixLength - 1];
+      }
+      if (get(i) == get(prefixLength)) prefixLength++;
+      fallbacks[i] = prefixLength;
+    }
+    return fallbacks;
+  }
+
+  /**
+   * Returns how many elements of the given subsequence are found in order in these elements.
+   */
+  int countSubsequenceElementsFound(PrimitiveArrayElements subsequence) {
+    int subsequenceIndex = 0;
+    for (int i = 0; i < size && subsequenceIndex < subsequence.size; i++) {
+      if (get(i) == subsequence.get(subsequenceIndex)) subsequenceIndex++;
+    }
+    return subsequenceIndex;
+  }
+
+  /**
+   * Returns the index of the first element greater than the next one or -1 if the elements are sorted.
+   */
+  int indexOfFirstUnsortedElement() {
+    for (int i = 0; i < size - 1; i++) {
+      if (compare(i, i + 1) > 0) return i;
+    }
+    return -1;
+  }
+
+  private static final class IntArrayElements extends PrimitiveArrayElements {
+    private final int[] array;
+
+    IntArrayElements(int[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Integer.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof IntArrayElements && java.util.Arrays.equals(array, ((IntArrayElements) other).array);
+    }
+  }
+
+  private static final class LongArrayElements extends PrimitiveArrayElements {
+    private final long[] array;
+
+    LongArrayElements(long[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Long.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof LongArrayElements && java.util.Arrays.equals(array, ((LongArrayElements) other).array);
+    }
+  }
+
+  private static final class DoubleArrayElements extends PrimitiveArrayElements {
+    private final double[] array;
+
+    DoubleArrayElements(double[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return Double.doubleToLongBits(array[index]);
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Double.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      // compares the elements bits like Double.equals
+      return other instanceof DoubleArrayElements && java.util.Arrays.equals(array, ((DoubleArrayElements) other).array);
+    }
+  }
+
+  private static final class ByteArrayElements extends PrimitiveArrayElements {
+    private final byte[] array;
+
+    ByteArrayElements(byte[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Byte.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof ByteArrayElements && java.util.Arrays.equals(array, ((ByteArrayElements) other).array);
+    }
+  }
+
+  private static final class FloatArrayElements extends PrimitiveArrayElements {
+    private final float[] array;
+
+    FloatArrayElements(float[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return Float.floatToIntBits(array[index]);
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Float.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      // compares the elements bits like Float.equals
+      return other instanceof FloatArrayElements && java.util.Arrays.equals(array, ((FloatArrayElements) other).array);
+    }
+  }
+
+  private static final class ShortArrayElements extends PrimitiveArrayElements {
+    private final short[] array;
+
+    ShortArrayElements(short[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Short.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof ShortArrayElements && java.util.Arrays.equals(array, ((ShortArrayElements) other).array);
+    }
+  }
+
+  private static final class CharArrayElements extends PrimitiveArrayElements {
+    private final char[] array;
+
+    CharArrayElements(char[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index];
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Character.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof CharArrayElements && java.util.Arrays.equals(array, ((CharArrayElements) other).array);
+    }
+  }
+
+  private static final class BooleanArrayElements extends PrimitiveArrayElements {
+    private final boolean[] array;
+
+    BooleanArrayElements(boolean[] array) {
+      super(array.length);
+      this.array = array;
+    }
+
+    @Override
+    long get(int index) {
+      return array[index] ? 1 : 0;
+    }
+
+    @Override
+    int compare(int index, int otherIndex) {
+      return Boolean.compare(array[index], array[otherIndex]);
+    }
+
+    @Override
+    boolean isEqualTo(PrimitiveArrayElements other) {
+      return other instanceof BooleanArrayElements && java.util.Arrays.equals(array, ((BooleanArrayElements) other).array);
+    }
+  }
+}
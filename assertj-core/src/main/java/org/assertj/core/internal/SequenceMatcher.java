@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+/**
+ * Looks for a sequence in elements given one by one, each element is only given once so that singly-traversable iterables
+ * can be searched.
+ * <p>
+ * With the standard comparison strategy, elements equality is an equivalence relation and the Knuth-Morris-Pratt algorithm
+ * is used: the elements already matched are never compared again, so the sequence is found in O(n + m) comparisons.
+ * <p>
+ * Other comparison strategies may not be transitive (e.g. a comparator with a tolerance), the last elements are then kept
+ * in a ring buffer and compared to the sequence each time a new element is given.
+ */
+final class SequenceMatcher {
+
+  private final Object[] sequence;
+  private final ComparisonStrategy comparisonStrategy;
+  // Knuth-Morris-Pratt: length of the longest proper prefix of sequence[0..i] that is also a suffix of it
+  private final int[] fallbacks;
+  private int matched;
+  // ring buffer of the last given elements, the oldest one being at lastElementIndex
+  private final Object[] lastElements;
+  private int lastElementIndex;
+  private int givenElements;
+
+  SequenceMatcher(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    checkArgument(sequence.length > 0, "The sequence to look for should not be empty");
+    this.sequence = sequence;
+    this.comparisonStrategy = comparisonStrategy;
+    if (comparisonStrategy.isStandard()) {
+      this.fallbacks = fallbacks();
+      this.lastElements = null;
+    } else {
+      this.fallbacks = null;
+      this.lastElements = new Object[sequence.length];
+    }
+  }
+
+  /**
+   * Gives the next element to search the sequence in.
+   *
+   * @param element the next element.
+   * @return true if the sequence ends with the given element, false otherwise.
+   */
+  boolean matchesWith(Object element) {
+    return fallbacks != null ? knuthMorrisPrattMatchesWith(element) : ringBufferMatchesWith(element);
+  }
+
+  private boolean knuthMorrisPrattMatchesWith(Object element) {
+    while (!areEqual(element, sequence[matched])) {
+      if (matched == 0) return false;
+      matched = fallbacks[matched - 1];
+    }
+    matched++;
+    if (matched < sequence.length) return false;
+    // prepare the next search, sequences can overlap
+    matched = fallbacks[matched - 1];
+    return true;
+  }
+
+  private boolean ringBufferMatchesWith(Object element) {
+    lastElements[lastElementIndex] = element;
+    lastElementIndex = (lastElementIndex + 1) % lastElements.length;
+    if (givenElements < lastElements.length) givenElements++;
+    if (givenElements < lastElements.length) return false;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(lastElements[(lastElementIndex + i) % lastElements.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  private int[] fallbacks() {
+    int[] fallbacks = new int[sequence.length];
+    int prefixLength = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (prefixLength > 0 && !areEqual(sequence[i], sequence[prefixLength])) {
+        prefixLength = fallbacks[prefixLength - 1];
+      }
+      if (areEqual(sequence[i], sequence[prefixLength])) prefixLength++;
+      fallbacks[i] = prefixLength;
+    }
+    return fallbacks;
+  }
+
+  private boolean areEqual(Object actual, Object other) {
+    return comparisonStrategy.areEqual(actual, other);
+  }
+}
@@ -22,6 +22,7 @@ import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.ChangeDelta;
 import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.TruncatedDelta;
 
 import java.io.File;
 import java.io.PrintWriter;
@@ -40,13 +41,14 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -59,9 +61,11 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static java.lang.Integer.toHexString;
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
@@ -105,9 +109,18 @@ public class StandardRepresentation implements Representation {
 
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+  private static int maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
 
-  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new HashMap<>();
+  private static final Map<Class<?>, Function<?, ? extends CharSequence>> customFormatterByType = new ConcurrentHashMap<>();
+  // the checks to find how to represent a type are done once per type
+  private static final ClassValue<BiFunction<StandardRepresentation, Object, String>> TO_STRING_BY_TYPE =
+      new ClassValue<BiFunction<StandardRepresentation, Object, String>>() {
+        @Override
+        protected BiFunction<StandardRepresentation, Object, String> computeValue(Class<?> type) {
+          return toStringFunctionFor(type);
+        }
+      };
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -142,11 +155,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxCharactersForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_CHARACTERS_FOR_PRINTING} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxCharactersForPrinting = Configuration.MAX_CHARACTERS_FOR_PRINTING;
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
@@ -182,6 +197,17 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  public static void setMaxCharactersForPrinting(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 1, "maxCharactersForPrinting must be >= 1, but was %s", value);
+    maxCharactersForPrinting = value;
+  }
+
+  @VisibleForTesting
+  public static int getMaxCharactersForPrinting() {
+    return maxCharactersForPrinting;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
    *
@@ -211,59 +237,68 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy) return toStringOf((ComparatorBasedComparisonStrategy) object);
-    if (object instanceof Calendar) return toStringOf((Calendar) object);
-    if (object instanceof Class<?>) return toStringOf((Class<?>) object);
-    if (object instanceof Date) return toStringOf((Date) object);
-    if (object instanceof Duration) return toStringOf((Duration) object);
-    if (object instanceof LocalDate) return toStringOf((LocalDate) object);
-    if (object instanceof YearMonth) return toStringOf((YearMonth) object);
-    if (object instanceof LocalDateTime) return toStringOf((LocalDateTime) object);
-    if (object instanceof OffsetDateTime) return toStringOf((OffsetDateTime) object);
-    if (object instanceof ZonedDateTime) return toStringOf((ZonedDateTime) object);
-    if (object instanceof LongAdder) return toStringOf((LongAdder) object);
+    return TO_STRING_BY_TYPE.get(object.getClass()).apply(this, object);
+  }
+
+  // resolves once per type which method represents its instances, the checks order matters as a type can be a subtype of
+  // several of the checked types
+  private static BiFunction<StandardRepresentation, Object, String> toStringFunctionFor(Class<?> type) {
+    if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type))
+      return (r, o) -> r.toStringOf((ComparatorBasedComparisonStrategy) o);
+    if (Calendar.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Calendar) o);
+    if (Class.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Class<?>) o);
+    if (Date.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Date) o);
+    if (Duration.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Duration) o);
+    if (LocalDate.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((LocalDate) o);
+    if (YearMonth.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((YearMonth) o);
+    if (LocalDateTime.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((LocalDateTime) o);
+    if (OffsetDateTime.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((OffsetDateTime) o);
+    if (ZonedDateTime.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((ZonedDateTime) o);
+    if (LongAdder.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((LongAdder) o);
     // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
     // representation, if that's not the case (e.g. an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class)) return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
-      return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
-      return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File) return toStringOf((File) object);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (object instanceof String) return toStringOf((String) object);
-    if (object instanceof CharSequence) return toStringOf((CharSequence) object);
-    if (object instanceof Character) return toStringOf((Character) object);
-    if (object instanceof Comparator) return toStringOf((Comparator<?>) object);
-    if (object instanceof SimpleDateFormat) return toStringOf((SimpleDateFormat) object);
-    if (object instanceof PredicateDescription) return toStringOf((PredicateDescription) object);
-    if (object instanceof Future) return toStringOf((Future<?>) object);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?>) return smartFormat((Collection<?>) object);
-    if (object instanceof Map<?, ?>) return toStringOf((Map<?, ?>) object);
-    if (object instanceof Tuple) return toStringOf((Tuple) object);
-    if (object instanceof Map.Entry) return toStringOf((Map.Entry<?, ?>) object);
-    if (object instanceof Method) return ((Method) object).toGenericString();
-    if (object instanceof InsertDelta<?>) return toStringOf((InsertDelta<?>) object);
-    if (object instanceof ChangeDelta<?>) return toStringOf((ChangeDelta<?>) object);
-    if (object instanceof DeleteDelta<?>) return toStringOf((DeleteDelta<?>) object);
+    if (isSubtypeNotOverridingToString(type, AtomicReference.class)) return (r, o) -> r.toStringOf((AtomicReference<?>) o);
+    if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class))
+      return (r, o) -> r.toStringOf((AtomicMarkableReference<?>) o);
+    if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class))
+      return (r, o) -> r.toStringOf((AtomicStampedReference<?>) o);
+    if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type)) return (r, o) -> AtomicIntegerFieldUpdater.class.getSimpleName();
+    if (AtomicLongFieldUpdater.class.isAssignableFrom(type)) return (r, o) -> AtomicLongFieldUpdater.class.getSimpleName();
+    if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type))
+      return (r, o) -> AtomicReferenceFieldUpdater.class.getSimpleName();
+    if (File.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((File) o);
+    if (Path.class.isAssignableFrom(type)) return (r, o) -> r.fallbackToStringOf(o);
+    if (String.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((String) o);
+    if (CharSequence.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((CharSequence) o);
+    if (Character.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Character) o);
+    if (Comparator.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Comparator<?>) o);
+    if (SimpleDateFormat.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((SimpleDateFormat) o);
+    if (PredicateDescription.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((PredicateDescription) o);
+    if (Future.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Future<?>) o);
+    if (type.isArray()) return (r, o) -> r.formatArray(o);
+    if (Collection.class.isAssignableFrom(type)) return (r, o) -> r.smartFormat((Collection<?>) o);
+    if (Map.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Map<?, ?>) o);
+    if (Tuple.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Tuple) o);
+    if (Map.Entry.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Map.Entry<?, ?>) o);
+    if (Method.class.isAssignableFrom(type)) return (r, o) -> ((Method) o).toGenericString();
+    if (InsertDelta.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((InsertDelta<?>) o);
+    if (TruncatedDelta.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((TruncatedDelta<?>) o);
+    if (ChangeDelta.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((ChangeDelta<?>) o);
+    if (DeleteDelta.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((DeleteDelta<?>) o);
     // Only format Iterables that are not collections and have not overridden toString
     // ex: JsonNode is an Iterable that is best formatted with its own String
     // Path is another example, but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> && !hasOverriddenToString(object.getClass())) return smartFormat((Iterable<?>) object);
-    if (object instanceof AtomicInteger) return toStringOf((AtomicInteger) object);
-    if (object instanceof AtomicBoolean) return toStringOf((AtomicBoolean) object);
-    if (object instanceof AtomicLong) return toStringOf((AtomicLong) object);
-    if (object instanceof Number) return toStringOf((Number) object);
-    if (object instanceof Throwable) return toStringOf((Throwable) object);
-    return fallbackToStringOf(object);
+    if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type)) return (r, o) -> r.smartFormat((Iterable<?>) o);
+    if (AtomicInteger.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((AtomicInteger) o);
+    if (AtomicBoolean.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((AtomicBoolean) o);
+    if (AtomicLong.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((AtomicLong) o);
+    if (Number.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Number) o);
+    if (Throwable.class.isAssignableFrom(type)) return (r, o) -> r.toStringOf((Throwable) o);
+    return StandardRepresentation::fallbackToStringOf;
   }
 
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+  private static boolean isSubtypeNotOverridingToString(Class<?> objectClass, Class<?> type) {
+    return type.isAssignableFrom(objectClass) && !hasOverriddenToStringInSubclassOf(objectClass, type);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -317,7 +352,11 @@ public class StandardRepresentation implements Representation {
 
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    CharSequence formatted = ((Function<T, ? extends CharSequence>) customFormatterByType.get(object.getClass())).apply(object);
+    Function<T, ? extends CharSequence> formatter =
+        (Function<T, ? extends CharSequence>) customFormatterByType.get(object.getClass());
+    // the formatter may have been removed by another thread since hasCustomFormatterFor was called
+    if (formatter == null) return TO_STRING_BY_TYPE.get(object.getClass()).apply(this, object);
+    CharSequence formatted = formatter.apply(object);
     return formatted != null ? formatted.toString() : null;
   }
 
@@ -505,7 +544,7 @@ public class StandardRepresentation implements Representation {
     int printedElements = 0;
     for (;;) {
       Entry<?, ?> entry = (Entry<?, ?>) entriesIterator.next();
-      if (printedElements == maxElementsForPrinting) {
+      if (printedElements == maxElementsForPrinting || builder.length() >= maxCharactersForPrinting) {
         builder.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
         return builder.append("}").toString();
       }
@@ -628,7 +667,7 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    return format(java.util.Arrays.asList(array), start, end, elementSeparator, indentation, root);
+    return format(asList(array), start, end, elementSeparator, indentation, root);
   }
 
   protected String format(List<?> elements, String start, String end, String elementSeparator, String indentation,
@@ -664,17 +703,25 @@ public class StandardRepresentation implements Representation {
 
   // private methods
 
+  // the elements are represented on demand, only the displayed ones are
   private List<String> representElements(Iterable<?> elements, String start, String end, String elementSeparator,
                                          String indentation, Object root) {
-    int capacity = maxElementsForPrinting / 2 + 1;
-    HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
-    elements.forEach(accumulator::add);
-
-    return accumulator.stream().map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                      .collect(toList());
+    List<?> displayableElements;
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      // no need to go through all the elements to find the last ones
+      displayableElements = (List<?>) elements;
+    } else {
+      int capacity = maxElementsForPrinting / 2 + 1;
+      HeadTailAccumulator<Object> accumulator = new HeadTailAccumulator<>(capacity, capacity);
+      elements.forEach(accumulator::add);
+      displayableElements = accumulator.stream().collect(toList());
+    }
+    return new TransformingList<>(displayableElements,
+                                  element -> safeStringOf(element, start, end, elementSeparator, indentation, root));
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
+  // this method only deals with max number of elements and characters to display, the elements are represented on demand
+  // and the ones after maxCharactersForPrinting characters are not
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
     int size = representedElements.size();
@@ -682,9 +729,9 @@ public class StandardRepresentation implements Representation {
     if (size <= maxElementsForPrinting) {
       // display all elements
       for (int i = 0; i < size; i++) {
-        if (i != 0) desc.append(indentation);
+        if (i != 0) desc.append(elementSeparator).append(indentation);
+        if (desc.length() >= maxCharactersForPrinting) return desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end).toString();
         desc.append(representedElements.get(i));
-        if (i != size - 1) desc.append(elementSeparator);
       }
       return desc.append(end).toString();
     }
@@ -692,6 +739,7 @@ public class StandardRepresentation implements Representation {
     // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
     int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
     for (int i = 0; i < maxFirstElementsToPrint; i++) {
+      if (desc.length() >= maxCharactersForPrinting) return desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end).toString();
       desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
@@ -712,7 +760,9 @@ public class StandardRepresentation implements Representation {
     int maxLastElementsToPrint = maxElementsForPrinting / 2;
     for (int i = size - maxLastElementsToPrint; i < size; i++) {
       if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+      desc.append(indentation);
+      if (desc.length() >= maxCharactersForPrinting) return desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED).append(end).toString();
+      desc.append(representedElements.get(i));
     }
     return desc.append(end).toString();
   }
@@ -724,6 +774,12 @@ public class StandardRepresentation implements Representation {
                          formatLines(changeDelta.getRevised().getLines()));
   }
 
+  private String toStringOf(TruncatedDelta<?> truncatedDelta) {
+    return String.format("Content not compared from line %s: only %s lines were compared after the first difference "
+                         + "(this can be changed with Assertions.setMaxLinesForContentDiff)%n",
+                         truncatedDelta.lineNumber(), truncatedDelta.getMaxLines());
+  }
+
   private String toStringOf(DeleteDelta<?> deleteDelta) {
     return String.format("Missing content at line %s:%n  %s%n", deleteDelta.lineNumber(),
                          formatLines(deleteDelta.getOriginal().getLines()));
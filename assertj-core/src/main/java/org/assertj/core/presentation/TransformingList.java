@@ -15,11 +15,13 @@ package org.assertj.core.presentation;
 import static java.util.Objects.requireNonNull;
 
 import java.util.AbstractList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
- * Converts elements of one list to a different type on demand.
+ * Converts elements of one list to a different type on demand, each element is converted at most once.
  *
  * @param <FROM> the type to convert from
  * @param <TO> the type to convert to
@@ -31,6 +33,9 @@ final class TransformingList<FROM, TO> extends AbstractList<TO> {
   /** Converts elements to the new type. */
   private final Function<? super FROM, ? extends TO> transform;
 
+  /** The elements already converted by index, only the accessed elements are kept as the source list may be huge. */
+  private final Map<Integer, TO> transformed = new HashMap<>();
+
   /**
    * Creates a new {@code TransformingList}.
    *
@@ -44,7 +49,10 @@ final class TransformingList<FROM, TO> extends AbstractList<TO> {
 
   @Override
   public TO get(final int index) {
-    return transform.apply(source.get(index));
+    if (transformed.containsKey(index)) return transformed.get(index);
+    TO element = transform.apply(source.get(index));
+    transformed.put(index, element);
+    return element;
   }
 
   @Override
@@ -24,28 +24,37 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 /**
  * Utility methods related to dates.
+ * <p>
+ * The methods formatting or parsing dates with the ISO formats ({@link #formatAsDatetime(Date)}, {@link #parse(String)} ...)
+ * use the default time zone at the time they are called, a default time zone changed with
+ * {@link TimeZone#setDefault(TimeZone)} is taken into account by the next calls.
  *
  * @author Joel Costigliola
  * @author Mikhail Mazursky
  */
 public class DateUtil {
 
+  // SimpleDateFormat is not thread safe, instead of synchronizing all threads on shared instances, each thread uses its own
+  // instances of the ISO formats below (see isoFormat to get them).
+
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
    */
-  private static final DateFormat ISO_DATE_FORMAT = newIsoDateFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_FORMAT = ThreadLocal.withInitial(DateUtil::newIsoDateFormat);
   /**
    * ISO 8601 local date-time format (yyyy-MM-dd'T'HH:mm:ss), example : <code>2003-04-26T13:01:02</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT = newIsoDateTimeFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT = ThreadLocal.withInitial(DateUtil::newIsoDateTimeFormat);
   /**
    * ISO 8601 local date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss.SSS), example :
    * <code>2003-04-26T03:01:02.999</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT_WITH_MS = newIsoDateTimeWithMsFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT_WITH_MS = ThreadLocal.withInitial(
+      DateUtil::newIsoDateTimeWithMsFormat);
 
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
@@ -157,6 +166,17 @@ public class DateUtil {
     return dateFormatForPattern("yyyy-MM-dd HH:mm:ss.SSS", lenientParsing);
   }
 
+  private static DateFormat isoFormat(ThreadLocal<DateFormat> threadLocalIsoFormat) {
+    DateFormat isoFormat = threadLocalIsoFormat.get();
+    // the format uses the default time zone at the time it was created, recreate it if the default time zone has changed so
+    // that formatting and parsing always use the current default time zone
+    if (!isoFormat.getTimeZone().getID().equals(TimeZone.getDefault().getID())) {
+      threadLocalIsoFormat.remove();
+      isoFormat = threadLocalIsoFormat.get();
+    }
+    return isoFormat;
+  }
+
   private static DateFormat dateFormatForPattern(String pattern, boolean lenient) {
     DateFormat dateFormat = new SimpleDateFormat(pattern);
     dateFormat.setLenient(lenient);
@@ -165,30 +185,28 @@ public class DateUtil {
 
   /**
    * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br>
-   * Method is synchronized
-   * because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetime(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT.format(date);
+  public static String formatAsDatetime(Date date) {
+    return date == null ? null : isoFormat(ISO_DATE_TIME_FORMAT).format(date);
   }
 
   /**
    * Formats the given date using the ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss:SSS).<br>
-   * Method
-   * is synchronized because SimpleDateFormat is not thread safe (sigh).
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetimeWithMs(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.format(date);
+  public static String formatAsDatetimeWithMs(Date date) {
+    return date == null ? null : isoFormat(ISO_DATE_TIME_FORMAT_WITH_MS).format(date);
   }
 
   /**
@@ -211,9 +229,9 @@ public class DateUtil {
    * @return the corresponding Date or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parse(String dateAsString) {
+  public static Date parse(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : isoFormat(ISO_DATE_FORMAT).parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -229,9 +247,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetime(String dateAsString) {
+  public static Date parseDatetime(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : isoFormat(ISO_DATE_TIME_FORMAT).parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -248,9 +266,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetimeWithMs(String dateAsString) {
+  public static Date parseDatetimeWithMs(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.parse(dateAsString);
+      return dateAsString == null ? null : isoFormat(ISO_DATE_TIME_FORMAT_WITH_MS).parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
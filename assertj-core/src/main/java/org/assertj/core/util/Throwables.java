@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
 import static java.util.Arrays.stream;
 import static java.util.Collections.reverse;
 import static java.util.stream.Collectors.joining;
@@ -145,6 +146,48 @@ public final class Throwables {
     throwable.setStackTrace(purgedStack.toArray(new StackTraceElement[0]));
   }
 
+  /**
+   * Lighter variant of {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)} that only keeps the first
+   * {@code maxStackTraceElements} elements that are neither AssertJ elements nor java or jdk elements called by AssertJ
+   * (that is between two AssertJ elements).
+   * <p>
+   * The stack trace is traversed from its top (where the error was created) and the traversal stops as soon as enough
+   * elements are kept, the first one kept being the user code that triggered the AssertJ failure.
+   * <p>
+   * If the stack trace does not contain any AssertJ element, it is left untouched.
+   *
+   * @param throwable the {@code Throwable} to filter stack trace.
+   * @param maxStackTraceElements the maximum number of stack trace elements to keep, at least one element is kept.
+   * @since 3.27.0
+   */
+  public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable, int maxStackTraceElements) {
+    if (throwable == null) return;
+    StackTraceElement[] stackTrace = throwable.getStackTrace();
+    // the last assertj element is the one called by the user code, the elements after it are all kept (java or jdk
+    // ones included like ArrayList.forEach calling the user code) as they are not called by assertj.
+    int lastAssertjStackTraceElementIndex = stackTrace.length - 1;
+    while (lastAssertjStackTraceElementIndex >= 0 && !isFromAssertJ(stackTrace[lastAssertjStackTraceElementIndex])) {
+      lastAssertjStackTraceElementIndex--;
+    }
+    if (lastAssertjStackTraceElementIndex < 0) return;
+    StackTraceElement[] purgedStack = new StackTraceElement[Math.min(Math.max(maxStackTraceElements, 1), stackTrace.length)];
+    int kept = 0;
+    boolean assertjStackTraceElementFound = false;
+    for (int i = 0; i < stackTrace.length && kept < purgedStack.length; i++) {
+      StackTraceElement stackTraceElement = stackTrace[i];
+      if (isFromAssertJ(stackTraceElement)) {
+        assertjStackTraceElementFound = true;
+        continue; // skip element
+      }
+      // elements before the first assertj one are the ones used by assertj to build the error (reflection for example)
+      if (!assertjStackTraceElementFound) continue;
+      // java or jdk elements between two assertj elements are called by assertj
+      if (i < lastAssertjStackTraceElementIndex && isFromJavaOrJdkPackages(stackTraceElement)) continue;
+      purgedStack[kept++] = stackTraceElement;
+    }
+    throwable.setStackTrace(kept == purgedStack.length ? purgedStack : copyOf(purgedStack, kept));
+  }
+
   private static boolean isFromAssertJ(StackTraceElement stackTrace) {
     return stackTrace.getClassName().contains(ORG_ASSERTJ);
   }
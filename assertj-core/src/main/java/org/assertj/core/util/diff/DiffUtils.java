@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 import org.assertj.core.util.diff.myers.MyersDiff;
 
 /**
@@ -31,11 +32,27 @@ import org.assertj.core.util.diff.myers.MyersDiff;
  */
 public class DiffUtils {
 
+  /**
+   * Above this total number of elements, {@link #diff(List, List)} uses {@link LinearSpaceMyersDiff} as {@link MyersDiff}
+   * memory grows with the number of elements times the number of differences.
+   */
+  static final int LINEAR_SPACE_DIFF_THRESHOLD = 10_000;
+
+  /**
+   * The maximum edit cost computed precisely by {@link #diff(List, List)} above {@link #LINEAR_SPACE_DIFF_THRESHOLD}, past
+   * that cost the patch has a single delta going from the first to the last difference.
+   */
+  static final int MAX_LINEAR_SPACE_DIFF_COST = 1_000;
+
   private static Pattern unifiedDiffChunkRe = Pattern.compile("^@@\\s+-(?:(\\d+)(?:,(\\d+))?)\\s+\\+(?:(\\d+)(?:,(\\d+))?)\\s+@@$");
 
   /**
    * Computes the difference between the original and revised list of elements
    * with default diff algorithm
+   * <p>
+   * Large lists (more than {@value #LINEAR_SPACE_DIFF_THRESHOLD} elements in total) are diffed with
+   * {@link LinearSpaceMyersDiff} limited to an edit cost of {@value #MAX_LINEAR_SPACE_DIFF_COST}, beyond that cost the
+   * patch is made of a single delta going from the first to the last difference.
    *
    * @param <T> the type of elements.
    * @param original
@@ -46,6 +63,11 @@ public class DiffUtils {
    *         revised sequences. Never {@code null}.
    */
   public static <T> Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original must not be null");
+    checkArgument(revised != null, "revised must not be null");
+    if (original.size() + revised.size() > LINEAR_SPACE_DIFF_THRESHOLD) {
+      return DiffUtils.diff(original, revised, new LinearSpaceMyersDiff<>(MAX_LINEAR_SPACE_DIFF_COST));
+    }
     return DiffUtils.diff(original, revised, new MyersDiff<>());
   }
 
@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Marks the position from which texts were not compared because the diff stopped after comparing a given number of lines.
+ * <p>
+ * It does not change anything when applied, the original and revised chunks are empty.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class TruncatedDelta<T> extends ChangeDelta<T> {
+
+  private final int maxLines;
+
+  /**
+   * Creates a truncated delta at the given position.
+   *
+   * @param position the position in the original text from which the texts were not compared.
+   * @param maxLines the number of lines that were compared after the first difference.
+   */
+  public TruncatedDelta(int position, int maxLines) {
+    super(new Chunk<>(position, emptyList()), new Chunk<>(position, emptyList()));
+    this.maxLines = maxLines;
+  }
+
+  /**
+   * @return the number of lines that were compared after the first difference.
+   */
+  public int getMaxLines() {
+    return maxLines;
+  }
+
+}
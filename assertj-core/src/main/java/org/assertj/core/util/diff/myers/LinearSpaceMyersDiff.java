@@ -0,0 +1,290 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Arrays.fill;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+
+/**
+ * Linear space variant of the Myers differencing algorithm.
+ * <p>
+ * Instead of keeping the whole path explored by the forward algorithm like {@link MyersDiff}, it looks for the middle snake
+ * of the shortest edit script by running the algorithm forward and backward at the same time and then diffs the sequences
+ * before and after the middle snake recursively, see section 4b of the
+ * <a href="http://www.xmailserver.org/diff2.pdf">Myers paper</a>. This needs O(N+M) memory instead of O((N+M)D) and the
+ * shortest edit script cost D is known after the first middle snake is found.
+ * <p>
+ * A maximum edit cost can be given to limit the time spent on sequences with many differences: when the cost of the
+ * shortest edit script is greater than the maximum cost, the diff stops and returns a coarse patch with a single delta going
+ * from the first to the last difference.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final Equalizer<T> equalizer;
+  private final int maxCost;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm without maximum edit cost.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm stopping when the cost of the shortest edit
+   * script is greater than the given maximum cost.
+   *
+   * @param maxCost the maximum number of inserted and deleted elements computed precisely.
+   * @throws IllegalArgumentException if maxCost is not greater than 0.
+   */
+  public LinearSpaceMyersDiff(int maxCost) {
+    checkArgument(maxCost > 0, "maxCost must be greater than 0 but was %s", maxCost);
+    this.equalizer = Object::equals;
+    this.maxCost = maxCost;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Returns a single delta going from the first to the last difference if the edit cost is greater than the maximum cost.
+   */
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new Diff(randomAccess(original), randomAccess(revised)).patch();
+  }
+
+  private static <T> List<T> randomAccess(List<T> list) {
+    return list instanceof RandomAccess ? list : new ArrayList<>(list);
+  }
+
+  private class Diff {
+
+    private final List<T> original;
+    private final List<T> revised;
+    // elements not part of the longest common subsequence
+    private final boolean[] deleted;
+    private final boolean[] inserted;
+    // furthest reaching x per diagonal for the forward and backward searches, reused by all the middle snake searches
+    private final int[] forward;
+    private final int[] backward;
+
+    Diff(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      this.deleted = new boolean[original.size()];
+      this.inserted = new boolean[revised.size()];
+      int vectorSize = vectorSize(original.size(), revised.size());
+      this.forward = new int[vectorSize];
+      this.backward = new int[vectorSize];
+    }
+
+    Patch<T> patch() {
+      int originalStart = 0;
+      int revisedStart = 0;
+      int originalEnd = original.size();
+      int revisedEnd = revised.size();
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalStart), revised.get(revisedStart))) {
+        originalStart++;
+        revisedStart++;
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalEnd - 1), revised.get(revisedEnd - 1))) {
+        originalEnd--;
+        revisedEnd--;
+      }
+      Patch<T> patch = new Patch<>();
+      if (originalStart == originalEnd && revisedStart == revisedEnd) return patch;
+      if (originalStart == originalEnd || revisedStart == revisedEnd) {
+        patch.addDelta(delta(originalStart, originalEnd, revisedStart, revisedEnd));
+        return patch;
+      }
+      MiddleSnake middleSnake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd, maxCost);
+      if (middleSnake == null) {
+        // too many differences, it is not worth finding them precisely
+        patch.addDelta(delta(originalStart, originalEnd, revisedStart, revisedEnd));
+        return patch;
+      }
+      compare(originalStart, middleSnake.x, revisedStart, middleSnake.y);
+      compare(middleSnake.x, originalEnd, middleSnake.y, revisedEnd);
+      addDeltas(patch);
+      return patch;
+    }
+
+    // flags the elements of the given ranges that are not part of the longest common subsequence
+    private void compare(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalStart), revised.get(revisedStart))) {
+        originalStart++;
+        revisedStart++;
+      }
+      while (originalStart < originalEnd && revisedStart < revisedEnd
+             && equals(original.get(originalEnd - 1), revised.get(revisedEnd - 1))) {
+        originalEnd--;
+        revisedEnd--;
+      }
+      if (originalStart == originalEnd) {
+        fill(inserted, revisedStart, revisedEnd, true);
+      } else if (revisedStart == revisedEnd) {
+        fill(deleted, originalStart, originalEnd, true);
+      } else {
+        MiddleSnake middleSnake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd, Integer.MAX_VALUE);
+        if (middleSnake == null) {
+          // should not happen, report the ranges as changed
+          fill(deleted, originalStart, originalEnd, true);
+          fill(inserted, revisedStart, revisedEnd, true);
+          return;
+        }
+        compare(originalStart, middleSnake.x, revisedStart, middleSnake.y);
+        compare(middleSnake.x, originalEnd, middleSnake.y, revisedEnd);
+      }
+    }
+
+    /**
+     * Finds where to split the given ranges in two parts that can be diffed independently, the ranges must start and end
+     * with different elements.
+     *
+     * @return the split point or null if the edit cost of the given ranges is greater than maxCost.
+     */
+    private MiddleSnake middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd, int maxCost) {
+      final int n = originalEnd - originalStart;
+      final int m = revisedEnd - revisedStart;
+      final int maxD = (n + m + 1) / 2 + 1;
+      final int offset = maxD + 1;
+      fill(forward, 0, 2 * offset + 1, -1);
+      fill(backward, 0, 2 * offset + 1, -1);
+      forward[offset + 1] = 0;
+      backward[offset + 1] = 0;
+      final int delta = n - m;
+      // if delta is odd, the forward and backward paths overlap during the forward search, otherwise during the backward one
+      final boolean front = (delta & 1) != 0;
+      // cost is 2d - 1 or 2d when the paths overlap at step d
+      final int lastD = Math.min(maxD, maxCost / 2 + 1);
+      // the k ranges to skip because the paths have gone out of the edit graph
+      int forwardKStart = 0, forwardKEnd = 0, backwardKStart = 0, backwardKEnd = 0;
+      for (int d = 0; d <= lastD; d++) {
+        for (int k = -d + forwardKStart; k <= d - forwardKEnd; k += 2) {
+          final int kOffset = offset + k;
+          int x = (k == -d || (k != d && forward[kOffset - 1] < forward[kOffset + 1]))
+              ? forward[kOffset + 1]
+              : forward[kOffset - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m && equals(original.get(originalStart + x), revised.get(revisedStart + y))) {
+            x++;
+            y++;
+          }
+          forward[kOffset] = x;
+          if (x > n) {
+            forwardKEnd += 2;
+          } else if (y > m) {
+            forwardKStart += 2;
+          } else if (front) {
+            int backwardKOffset = offset + delta - k;
+            if (backwardKOffset >= 0 && backwardKOffset <= 2 * offset && backward[backwardKOffset] != -1
+                && x >= n - backward[backwardKOffset]) {
+              return 2 * d - 1 > maxCost ? null : new MiddleSnake(originalStart + x, revisedStart + y);
+            }
+          }
+        }
+        for (int k = -d + backwardKStart; k <= d - backwardKEnd; k += 2) {
+          final int kOffset = offset + k;
+          int x = (k == -d || (k != d && backward[kOffset - 1] < backward[kOffset + 1]))
+              ? backward[kOffset + 1]
+              : backward[kOffset - 1] + 1;
+          int y = x - k;
+          while (x < n && y < m
+                 && equals(original.get(originalEnd - x - 1), revised.get(revisedEnd - y - 1))) {
+            x++;
+            y++;
+          }
+          backward[kOffset] = x;
+          if (x > n) {
+            backwardKEnd += 2;
+          } else if (y > m) {
+            backwardKStart += 2;
+          } else if (!front) {
+            int forwardKOffset = offset + delta - k;
+            if (forwardKOffset >= 0 && forwardKOffset <= 2 * offset && forward[forwardKOffset] != -1) {
+              int forwardX = forward[forwardKOffset];
+              int forwardY = offset + forwardX - forwardKOffset;
+              if (forwardX >= n - x) {
+                return 2 * d > maxCost ? null : new MiddleSnake(originalStart + forwardX, revisedStart + forwardY);
+              }
+            }
+          }
+        }
+      }
+      // either the cost is greater than maxCost or, according to Myers, this cannot happen
+      return null;
+    }
+
+    private void addDeltas(Patch<T> patch) {
+      int i = 0;
+      int j = 0;
+      while (i < deleted.length || j < inserted.length) {
+        if (i < deleted.length && j < inserted.length && !deleted[i] && !inserted[j]) {
+          i++;
+          j++;
+          continue;
+        }
+        int originalStart = i;
+        int revisedStart = j;
+        while (i < deleted.length && deleted[i]) i++;
+        while (j < inserted.length && inserted[j]) j++;
+        patch.addDelta(delta(originalStart, i, revisedStart, j));
+      }
+    }
+
+    private Delta<T> delta(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      Chunk<T> originalChunk = new Chunk<>(originalStart, new ArrayList<>(original.subList(originalStart, originalEnd)));
+      Chunk<T> revisedChunk = new Chunk<>(revisedStart, new ArrayList<>(revised.subList(revisedStart, revisedEnd)));
+      if (originalChunk.size() == 0) return new InsertDelta<>(originalChunk, revisedChunk);
+      if (revisedChunk.size() == 0) return new DeleteDelta<>(originalChunk, revisedChunk);
+      return new ChangeDelta<>(originalChunk, revisedChunk);
+    }
+
+    private boolean equals(T original, T revised) {
+      return equalizer.equals(original, revised);
+    }
+  }
+
+  private static int vectorSize(int n, int m) {
+    return 2 * ((n + m + 1) / 2 + 2) + 1;
+  }
+
+  private static final class MiddleSnake {
+    final int x;
+    final int y;
+
+    MiddleSnake(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
+}
@@ -58,7 +58,7 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    Method getter = findGetter(propertyName, target.getClass());
     if (getter == null) {
       throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
     }
@@ -91,18 +91,18 @@ public final class Introspection {
     return format(message, property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  static Method findGetter(String propertyName, Class<?> type) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, type);
     if (isValidGetter(getter)) return getter;
     if (bareNamePropertyMethods) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, type);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, type);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -110,8 +110,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> type) {
+    final MethodKey methodKey = new MethodKey(name, type);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
@@ -13,10 +13,20 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.FieldUtils.getField;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findGetter;
+import static org.assertj.core.util.introspection.MemberUtils.setAccessibleWorkaround;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.VisibleForTesting;
 
@@ -24,6 +34,9 @@ public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // how to read a property/field of a type, unsuccessful lookups are cached too to avoid building introspection errors
+  // each time a value is read
+  private final Map<AccessorKey, Accessor> accessors = new ConcurrentHashMap<>();
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -66,6 +79,19 @@ public class PropertyOrFieldSupport {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional && name.equals("value")) return ((Optional) input).orElse(null);
 
+    AccessorKey accessorKey = new AccessorKey(input.getClass(), name, canExtractBareNamePropertyMethods(),
+                                              fieldSupport.isAllowedToUsePrivateFields());
+    Accessor accessor = accessors.computeIfAbsent(accessorKey, PropertyOrFieldSupport::findAccessor);
+    try {
+      return accessor.read(name, input);
+    } catch (Exception e) {
+      // the accessor could not read the value of this input (e.g. its getter threw an exception), the slow path reports the
+      // errors or falls back to the next way of reading the value
+      return readSimpleValue(name, input);
+    }
+  }
+
+  private Object readSimpleValue(String name, Object input) {
     try {
       // try to get name as a property
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -93,6 +119,30 @@ public class PropertyOrFieldSupport {
     }
   }
 
+  // looks for the getter or field that would be used by readSimpleValue without reading it
+  private static Accessor findAccessor(AccessorKey key) {
+    Method getter = findGetter(key.name, key.type);
+    if (getter != null && isPublic(getter.getModifiers())) {
+      try {
+        // force access for static class with public getter
+        getter.setAccessible(true);
+        return (name, input) -> getter.invoke(input);
+      } catch (RuntimeException e) {
+        // getter not accessible, like readSimpleValue try the field
+      }
+    }
+    try {
+      Field field = getField(key.type, key.name, key.allowUsingPrivateFields);
+      if (field != null && !isStatic(field.getModifiers()) && !field.isSynthetic()) {
+        setAccessibleWorkaround(field);
+        return (name, input) -> field.get(input);
+      }
+    } catch (Exception e) {
+      // field not accessible, let readSimpleValue report why
+    }
+    return Accessor.NOT_FOUND;
+  }
+
   private String popNameFrom(String propertyOrFieldNameChain) {
     if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
     return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
@@ -109,4 +159,46 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  @FunctionalInterface
+  private interface Accessor {
+
+    // neither a property nor a field, the value can only be read from a map
+    Accessor NOT_FOUND = (name, input) -> {
+      if (input instanceof Map && ((Map<?, ?>) input).containsKey(name)) return ((Map<?, ?>) input).get(name);
+      throw new IllegalStateException("no property or field found");
+    };
+
+    Object read(String name, Object input) throws Exception;
+  }
+
+  private static final class AccessorKey {
+    private final Class<?> type;
+    private final String name;
+    // the accessor found depends on these settings
+    private final boolean bareNamePropertyMethods;
+    private final boolean allowUsingPrivateFields;
+
+    private AccessorKey(Class<?> type, String name, boolean bareNamePropertyMethods, boolean allowUsingPrivateFields) {
+      this.type = type;
+      this.name = name;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+      this.allowUsingPrivateFields = allowUsingPrivateFields;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      AccessorKey accessorKey = (AccessorKey) o;
+      return bareNamePropertyMethods == accessorKey.bareNamePropertyMethods
+             && allowUsingPrivateFields == accessorKey.allowUsingPrivateFields
+             && Objects.equals(type, accessorKey.type)
+             && Objects.equals(name, accessorKey.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, name, bareNamePropertyMethods, allowUsingPrivateFields);
+    }
+  }
 }
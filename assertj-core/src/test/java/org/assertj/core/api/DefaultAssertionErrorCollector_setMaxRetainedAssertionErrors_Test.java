@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DefaultAssertionErrorCollector_setMaxRetainedAssertionErrors_Test {
+
+  private SoftAssertions softly;
+
+  @BeforeEach
+  void given() {
+    softly = new SoftAssertions();
+  }
+
+  @Test
+  void should_retain_all_errors_by_default() {
+    // WHEN
+    IntStream.range(0, 100).forEach(i -> softly.collectAssertionError(new AssertionError("error " + i)));
+    // THEN
+    then(softly.assertionErrorsCollected()).hasSize(100);
+    then(softly.suppressedAssertionErrorsCount()).isZero();
+  }
+
+  @Test
+  void should_only_retain_the_first_errors_and_report_how_many_were_suppressed() {
+    // GIVEN
+    softly.setMaxRetainedAssertionErrors(2);
+    // WHEN
+    softly.collectAssertionError(new AssertionError("error 1"));
+    softly.collectAssertionError(new AssertionError("error 2"));
+    softly.collectAssertionError(new AssertionError("error 3"));
+    softly.collectAssertionError(new AssertionError("error 4"));
+    softly.collectAssertionError(new AssertionError("error 5"));
+    // THEN
+    then(softly.wasSuccess()).isFalse();
+    then(softly.suppressedAssertionErrorsCount()).isEqualTo(3);
+    then(softly.assertionErrorsCollected()).extracting(Throwable::getMessage)
+                                           .containsExactly("error 1",
+                                                            "error 2",
+                                                            "3 more failures suppressed, only the first 2 assertion errors were retained");
+  }
+
+  @Test
+  void assertAll_should_report_how_many_errors_were_suppressed() {
+    // GIVEN
+    softly.setMaxRetainedAssertionErrors(1);
+    softly.assertThat(1).isEqualTo(2);
+    softly.assertThat(1).isEqualTo(3);
+    softly.assertThat(1).isEqualTo(4);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(softly::assertAll);
+    // THEN
+    then(assertionError).hasMessageContaining("Multiple Failures (2 failures)")
+                        .hasMessageContaining("expected: 2")
+                        .hasMessageNotContaining("expected: 3")
+                        .hasMessageContaining("2 more failures suppressed, only the first 1 assertion errors were retained");
+  }
+
+  @Test
+  void should_notify_callbacks_of_suppressed_errors() {
+    // GIVEN
+    List<AssertionError> errors = new ArrayList<>();
+    softly.setMaxRetainedAssertionErrors(1);
+    softly.addAfterAssertionErrorCollected(errors::add);
+    // WHEN
+    softly.collectAssertionError(new AssertionError("error 1"));
+    softly.collectAssertionError(new AssertionError("error 2"));
+    // THEN
+    then(errors).extracting(Throwable::getMessage)
+                .containsExactly("error 1", "error 2");
+  }
+
+  @Test
+  void should_not_retain_more_errors_than_the_maximum_when_collecting_them_concurrently() throws InterruptedException {
+    // GIVEN
+    softly.setMaxRetainedAssertionErrors(10);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    // WHEN
+    for (int i = 0; i < 1_000; i++) {
+      executor.execute(() -> softly.collectAssertionError(new AssertionError("error")));
+    }
+    executor.shutdown();
+    executor.awaitTermination(10, TimeUnit.SECONDS);
+    // THEN
+    then(softly.assertionErrorsCollected()).hasSize(11);
+    then(softly.suppressedAssertionErrorsCount()).isEqualTo(990);
+  }
+
+  @Test
+  void should_fail_if_maximum_is_not_positive() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> softly.setMaxRetainedAssertionErrors(0));
+    // THEN
+    then(exception).hasMessage("maxRetainedAssertionErrors must be > 0, but was 0");
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setLightweightStackTraces method")
+class EntryPointAssertions_setLightweightStackTraces_Test extends EntryPointAssertionsBaseTest {
+
+  private static final Failures FAILURES = Failures.instance();
+  private static final boolean DEFAULT_LIGHTWEIGHT_STACK_TRACES = FAILURES.isLightweightStackTraces();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    FAILURES.setLightweightStackTraces(DEFAULT_LIGHTWEIGHT_STACK_TRACES);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setLightweightStackTracesFunctions")
+  void should_set_lightweightStackTraces_value(Consumer<Boolean> setLightweightStackTracesFunction) {
+    // GIVEN
+    boolean lightweightStackTraces = !DEFAULT_LIGHTWEIGHT_STACK_TRACES;
+    // WHEN
+    setLightweightStackTracesFunction.accept(lightweightStackTraces);
+    // THEN
+    then(FAILURES.isLightweightStackTraces()).isEqualTo(lightweightStackTraces);
+  }
+
+  private static Stream<Consumer<Boolean>> setLightweightStackTracesFunctions() {
+    return Stream.of(Assertions::setLightweightStackTraces,
+                     BDDAssertions::setLightweightStackTraces,
+                     withAssertions::setLightweightStackTraces);
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.Diff;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setMaxLinesForContentDiff method")
+class EntryPointAssertions_setMaxLinesForContentDiff_Test extends EntryPointAssertionsBaseTest {
+
+  private static final int DEFAULT_MAX_LINES_FOR_CONTENT_DIFF = Diff.getMaxLinesForContentDiff();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    Diff.setMaxLinesForContentDiff(DEFAULT_MAX_LINES_FOR_CONTENT_DIFF);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxLinesForContentDiffFunctions")
+  void should_set_maxLinesForContentDiff_value(Consumer<Integer> setMaxLinesForContentDiffFunction) {
+    // GIVEN
+    int maxLinesForContentDiff = DEFAULT_MAX_LINES_FOR_CONTENT_DIFF + 1;
+    // WHEN
+    setMaxLinesForContentDiffFunction.accept(maxLinesForContentDiff);
+    // THEN
+    then(Diff.getMaxLinesForContentDiff()).isEqualTo(maxLinesForContentDiff);
+  }
+
+  private static Stream<Consumer<Integer>> setMaxLinesForContentDiffFunctions() {
+    return Stream.of(Assertions::setMaxLinesForContentDiff,
+                     BDDAssertions::setMaxLinesForContentDiff,
+                     withAssertions::setMaxLinesForContentDiff);
+  }
+
+}
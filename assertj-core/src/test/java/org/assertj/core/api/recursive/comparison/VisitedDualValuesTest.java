@@ -64,4 +64,34 @@ class VisitedDualValuesTest {
     // THEN
     then(optionalComparisonDifferences).isEmpty();
   }
+
+  @Test
+  void should_return_the_registered_differences_of_same_values_visited_at_another_location() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    Object actual = new Object();
+    Object expected = new Object();
+    DualValue dualValue = new DualValue(list("neighbour"), actual, expected);
+    visitedDualValues.registerVisitedDualValue(dualValue);
+    ComparisonDifference comparisonDifference = new ComparisonDifference(dualValue);
+    visitedDualValues.registerComparisonDifference(dualValue, comparisonDifference);
+    DualValue sameValuesAtOtherLocation = new DualValue(list("neighbour", "neighbour"), actual, expected);
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(sameValuesAtOtherLocation);
+    // THEN
+    then(optionalComparisonDifferences).isPresent();
+    then(optionalComparisonDifferences.get()).containsExactly(comparisonDifference);
+  }
+
+  @Test
+  void should_not_consider_equal_but_not_same_values_as_visited() {
+    // GIVEN
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(new DualValue(list(""), list("abc"), list("abc")));
+    DualValue equalValues = new DualValue(list(""), list("abc"), list("abc"));
+    // WHEN
+    Optional<List<ComparisonDifference>> optionalComparisonDifferences = visitedDualValues.registeredComparisonDifferencesOf(equalValues);
+    // THEN
+    then(optionalComparisonDifferences).isEmpty();
+  }
 }
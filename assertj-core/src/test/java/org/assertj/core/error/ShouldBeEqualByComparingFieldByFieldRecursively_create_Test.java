@@ -262,6 +262,63 @@ class ShouldBeEqualByComparingFieldByFieldRecursively_create_Test {
                                    CONFIGURATION_PROVIDER.representation().toStringOf(recursiveComparisonConfiguration)));
   }
 
+  @Test
+  void should_show_that_the_comparison_stopped_when_it_found_the_max_differences() {
+    // GIVEN
+    final Name actualName = new Name("Magic", "Johnson");
+    final Name nullName = new Name(null, "Ginobili");
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    recursiveComparisonConfiguration.setMaxDifferences(1);
+    List<ComparisonDifference> differences = computeDifferences(actualName, nullName, recursiveComparisonConfiguration);
+    // WHEN
+    // @format:off
+    String message = shouldBeEqualByComparingFieldByFieldRecursively(actualName,
+                                                                     nullName,
+                                                                     differences,
+                                                                     recursiveComparisonConfiguration,
+                                                                     REPRESENTATION).create(TEST_DESCRIPTION, REPRESENTATION);
+    // @format:on
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting actual:%n" +
+                                   "  Name[first='Magic', last='Johnson']%n" +
+                                   "to be equal to:%n" +
+                                   "  Name[first='null', last='Ginobili']%n" +
+                                   "when recursively comparing field by field, but found the following difference:%n" +
+                                   "%n" +
+                                   "field/property 'first' differ:%n" +
+                                   "- actual value  : \"Magic\"%n" +
+                                   "- expected value: null%n" +
+                                   "%n" +
+                                   "The comparison stopped after finding the maximum number of differences, other differences may not be reported.%n" +
+                                   "%n" +
+                                   "The recursive comparison was performed with this configuration:%n%s",
+                                   CONFIGURATION_PROVIDER.representation().toStringOf(recursiveComparisonConfiguration)));
+  }
+
+  @Test
+  void should_not_show_that_the_comparison_stopped_when_it_found_fewer_differences_than_the_max_differences() {
+    // GIVEN
+    final Name actualName = new Name("Magic", "Johnson");
+    final Name nullName = new Name(null, "Ginobili");
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    recursiveComparisonConfiguration.setMaxDifferences(3);
+    List<ComparisonDifference> differences = computeDifferences(actualName, nullName, recursiveComparisonConfiguration);
+    // WHEN
+    // @format:off
+    String message = shouldBeEqualByComparingFieldByFieldRecursively(actualName,
+                                                                     nullName,
+                                                                     differences,
+                                                                     recursiveComparisonConfiguration,
+                                                                     REPRESENTATION).create(TEST_DESCRIPTION, REPRESENTATION);
+    // @format:on
+    // THEN
+    then(message).doesNotContain("The comparison stopped")
+                 .contains(format("found the following 2 differences:%n"));
+  }
+
   @Test
   void should_show_difference_with_percentage() {
     // GIVEN
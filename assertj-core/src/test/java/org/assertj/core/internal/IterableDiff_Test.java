@@ -17,6 +17,8 @@ import static org.assertj.core.internal.IterableDiff.diff;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import org.assertj.core.testkit.CaseInsensitiveStringComparator;
@@ -139,9 +141,88 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_differences_in_order_between_two_large_iterables_with_elements_in_a_different_order() {
+    // GIVEN
+    List<Integer> actual = new ArrayList<>();
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      actual.add(i);
+      expected.add(99_999 - i);
+    }
+    actual.set(10, -1);
+    actual.set(20, -2);
+    // WHEN
+    IterableDiff<Integer> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly(-1, -2);
+    assertThat(diff.missing).containsExactly(20, 10);
+  }
+
+  @Test
+  void should_not_report_any_differences_between_iterables_of_arrays_with_equal_content() {
+    // GIVEN
+    List<Object> actual = newArrayList(new int[] { 1, 2 }, new String[] { "a" });
+    List<Object> expected = newArrayList(new String[] { "a" }, new int[] { 1, 2 });
+    // WHEN
+    IterableDiff<Object> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_not_report_any_differences_between_iterables_of_elements_whose_hashCode_is_not_consistent_with_equals() {
+    // GIVEN
+    List<EqualsWithoutHashCode> actual = newArrayList(new EqualsWithoutHashCode("a"), new EqualsWithoutHashCode("b"));
+    List<EqualsWithoutHashCode> expected = newArrayList(new EqualsWithoutHashCode("b"), new EqualsWithoutHashCode("a"));
+    // WHEN
+    IterableDiff<EqualsWithoutHashCode> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_differences_between_two_iterables_with_duplicate_elements_according_to_custom_comparison_strategy() {
+    // GIVEN
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE);
+    actual = newArrayList("b", "A", "a", "C");
+    expected = newArrayList("c", "B", "a", "d");
+    // WHEN
+    IterableDiff<String> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).containsExactly("a");
+    assertThat(diff.missing).containsExactly("d");
+  }
+
+  @Test
+  void should_not_report_any_differences_when_custom_comparator_is_not_a_total_order() {
+    // GIVEN
+    Comparator<String> equalIgnoringCaseComparator = (s1, s2) -> s1.equalsIgnoreCase(s2) ? 0 : 1;
+    comparisonStrategy = new ComparatorBasedComparisonStrategy(equalIgnoringCaseComparator);
+    actual = newArrayList("a", "b", "c", "d", "e");
+    expected = newArrayList("E", "D", "C", "B", "A");
+    // WHEN
+    IterableDiff<String> diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
   private class Foo {
   }
 
+  private static class EqualsWithoutHashCode {
+    private final String value;
+
+    EqualsWithoutHashCode(String value) {
+      this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof EqualsWithoutHashCode && value.equals(((EqualsWithoutHashCode) o).value);
+    }
+  }
+
   private static void assertThatNoDiff(IterableDiff diff) {
     assertThat(diff.differencesFound()).isFalse();
     assertThat(diff.missing).isEmpty();
@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.PrimitiveArrayElements.canCompareUnboxed;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsOf;
+
+import java.util.Random;
+
+import org.assertj.core.util.AbsValueComparator;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrayElements_Test {
+
+  private static final ComparisonStrategy STANDARD = StandardComparisonStrategy.instance();
+  private static final ComparisonStrategy ABS_VALUE = new ComparatorBasedComparisonStrategy(new AbsValueComparator<>());
+
+  @Test
+  void should_only_compare_unboxed_arrays_of_the_same_primitive_type_with_the_standard_comparison_strategy() {
+    then(canCompareUnboxed(new int[0], new int[0], STANDARD)).isTrue();
+    then(canCompareUnboxed(new int[0], new long[0], STANDARD)).isFalse();
+    then(canCompareUnboxed(new Integer[0], new Integer[0], STANDARD)).isFalse();
+    then(canCompareUnboxed(new int[0], new int[0], ABS_VALUE)).isFalse();
+  }
+
+  @Test
+  void should_fail_if_array_is_not_a_primitive_array() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> elementsOf(new Integer[0]));
+    // THEN
+    then(exception).hasMessageContaining("Expecting a primitive array");
+  }
+
+  @Test
+  void should_compare_floating_point_numbers_like_their_wrapper_equals() {
+    // Double.equals considers NaN equal to itself and 0.0 different from -0.0
+    then(elementsOf(new double[] { Double.NaN }).isEqualTo(elementsOf(new double[] { Double.NaN }))).isTrue();
+    then(elementsOf(new double[] { 0.0 }).isEqualTo(elementsOf(new double[] { -0.0 }))).isFalse();
+    then(elementsOf(new double[] { 1.0, Double.NaN }).areAllIn(elementsOf(new double[] { Double.NaN, 1.0 }))).isTrue();
+    then(elementsOf(new float[] { -0.0f }).isAnyIn(elementsOf(new float[] { 0.0f }))).isFalse();
+  }
+
+  @Test
+  void should_compare_booleans() {
+    then(elementsOf(new boolean[] { true, false }).isEqualTo(elementsOf(new boolean[] { true, false }))).isTrue();
+    then(elementsOf(new boolean[] { true }).isAnyIn(elementsOf(new boolean[] { false }))).isFalse();
+  }
+
+  @Test
+  void should_find_the_first_index_of_a_sequence() {
+    // GIVEN
+    PrimitiveArrayElements elements = elementsOf(new byte[] { 1, 1, 1, 2, 1, 2 });
+    // WHEN/THEN
+    then(elements.indexOfSequence(elementsOf(new byte[] { 1, 1, 2 }))).isEqualTo(1);
+    then(elements.indexOfSequence(elementsOf(new byte[] { 2, 1, 2 }))).isEqualTo(3);
+    then(elements.indexOfSequence(elementsOf(new byte[] { 2, 2 }))).isEqualTo(-1);
+  }
+
+  @Test
+  void should_find_the_same_sequences_as_a_naive_search() {
+    // GIVEN
+    Random random = new Random(0);
+    for (int i = 0; i < 500; i++) {
+      int[] array = randomBits(random, 50);
+      int[] sequence = randomBits(random, 1 + random.nextInt(5));
+      // WHEN
+      int index = elementsOf(array).indexOfSequence(elementsOf(sequence));
+      // THEN
+      then(index).isEqualTo(naiveIndexOfSequence(array, sequence));
+    }
+  }
+
+  @Test
+  void should_count_subsequence_elements_found_in_order() {
+    // GIVEN
+    PrimitiveArrayElements elements = elementsOf(new char[] { 'a', 'b', 'c', 'd' });
+    // WHEN/THEN
+    then(elements.countSubsequenceElementsFound(elementsOf(new char[] { 'a', 'c', 'd' }))).isEqualTo(3);
+    then(elements.countSubsequenceElementsFound(elementsOf(new char[] { 'a', 'c', 'b' }))).isEqualTo(2);
+  }
+
+  @Test
+  void should_return_the_index_of_the_first_unsorted_element() {
+    then(elementsOf(new long[] { 1, 2, 2, 3 }).indexOfFirstUnsortedElement()).isEqualTo(-1);
+    then(elementsOf(new long[] { 1, 3, 2, 4 }).indexOfFirstUnsortedElement()).isEqualTo(1);
+    // like Short.compareTo and not the long value of the elements
+    then(elementsOf(new short[] { -1, 0 }).indexOfFirstUnsortedElement()).isEqualTo(-1);
+    // like Double.compareTo, NaN is greater than any other value
+    then(elementsOf(new double[] { 1.0, Double.NaN }).indexOfFirstUnsortedElement()).isEqualTo(-1);
+    then(elementsOf(new double[] { Double.NaN, 1.0 }).indexOfFirstUnsortedElement()).isEqualTo(0);
+    then(elementsOf(new boolean[] { false, true, false }).indexOfFirstUnsortedElement()).isEqualTo(1);
+  }
+
+  private static int naiveIndexOfSequence(int[] array, int[] sequence) {
+    for (int start = 0; start + sequence.length <= array.length; start++) {
+      boolean matches = true;
+      for (int i = 0; i < sequence.length; i++) {
+        matches &= array[start + i] == sequence[i];
+      }
+      if (matches) return start;
+    }
+    return -1;
+  }
+
+  private static int[] randomBits(Random random, int size) {
+    int[] bits = new int[size];
+    for (int i = 0; i < size; i++) {
+      bits[i] = random.nextInt(2);
+    }
+    return bits;
+  }
+}
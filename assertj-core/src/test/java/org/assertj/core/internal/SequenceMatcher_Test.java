@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Arrays.array;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.testkit.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class SequenceMatcher_Test {
+
+  private static final ComparisonStrategy STANDARD = StandardComparisonStrategy.instance();
+  private static final ComparisonStrategy CASE_INSENSITIVE =
+      new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.INSTANCE);
+
+  @Test
+  void should_find_sequence_after_a_partial_match() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "a", "b"), STANDARD);
+    // WHEN
+    List<Integer> matchingIndices = matchingIndices(sequenceMatcher, "a", "a", "a", "b", "a", "b");
+    // THEN
+    then(matchingIndices).containsExactly(3);
+  }
+
+  @Test
+  void should_find_overlapping_sequences() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("a", "b", "a"), STANDARD);
+    // WHEN
+    List<Integer> matchingIndices = matchingIndices(sequenceMatcher, "a", "b", "a", "b", "a", "c", "a");
+    // THEN
+    then(matchingIndices).containsExactly(2, 4);
+  }
+
+  @Test
+  void should_find_sequence_according_to_comparison_strategy() {
+    // GIVEN
+    SequenceMatcher sequenceMatcher = new SequenceMatcher(array("A", "a", "B"), CASE_INSENSITIVE);
+    // WHEN
+    List<Integer> matchingIndices = matchingIndices(sequenceMatcher, "a", "A", "a", "b", "a", "b");
+    // THEN
+    then(matchingIndices).containsExactly(3);
+  }
+
+  @Test
+  void should_find_the_same_sequences_as_a_naive_search() {
+    // GIVEN
+    Random random = new Random(0);
+    for (int i = 0; i < 500; i++) {
+      String[] elements = randomLetters(random, 50);
+      String[] sequence = randomLetters(random, 1 + random.nextInt(4));
+      // WHEN
+      List<Integer> standardMatchingIndices = matchingIndices(new SequenceMatcher(sequence, STANDARD), elements);
+      List<Integer> caseInsensitiveMatchingIndices = matchingIndices(new SequenceMatcher(sequence, CASE_INSENSITIVE), elements);
+      // THEN
+      List<Integer> expectedMatchingIndices = naiveMatchingIndices(sequence, elements);
+      then(standardMatchingIndices).isEqualTo(expectedMatchingIndices);
+      then(caseInsensitiveMatchingIndices).isEqualTo(expectedMatchingIndices);
+    }
+  }
+
+  private static List<Integer> matchingIndices(SequenceMatcher sequenceMatcher, String... elements) {
+    List<Integer> matchingIndices = new ArrayList<>();
+    for (int i = 0; i < elements.length; i++) {
+      if (sequenceMatcher.matchesWith(elements[i])) matchingIndices.add(i);
+    }
+    return matchingIndices;
+  }
+
+  private static List<Integer> naiveMatchingIndices(String[] sequence, String[] elements) {
+    List<Integer> matchingIndices = new ArrayList<>();
+    for (int end = sequence.length - 1; end < elements.length; end++) {
+      boolean matches = true;
+      for (int i = 0; i < sequence.length; i++) {
+        matches &= sequence[i].equals(elements[end - sequence.length + 1 + i]);
+      }
+      if (matches) matchingIndices.add(end);
+    }
+    return matchingIndices;
+  }
+
+  private static String[] randomLetters(Random random, int size) {
+    String[] letters = new String[size];
+    for (int i = 0; i < size; i++) {
+      letters[i] = String.valueOf((char) ('a' + random.nextInt(2)));
+    }
+    return letters;
+  }
+}
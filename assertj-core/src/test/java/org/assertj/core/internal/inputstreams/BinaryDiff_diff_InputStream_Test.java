@@ -81,6 +81,36 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_found_after_several_blocks() throws IOException {
+    byte[] actualContent = largeContent(20_000);
+    actualContent[17_000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(largeContent(20_000));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(17_000);
+    assertThat(result.actual).isEqualTo("0xCA");
+    assertThat(result.expected).isEqualTo("0x68");
+  }
+
+  @Test
+  void should_return_diff_if_expected_ends_on_a_block_boundary() throws IOException {
+    actual = new ByteArrayInputStream(largeContent(16_385));
+    expected = new ByteArrayInputStream(largeContent(16_384));
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(16_384);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  private static byte[] largeContent(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) i;
+    }
+    return content;
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
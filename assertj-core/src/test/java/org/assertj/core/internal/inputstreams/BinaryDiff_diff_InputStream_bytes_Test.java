@@ -89,6 +89,59 @@ class BinaryDiff_diff_InputStream_bytes_Test {
     then(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_found_after_several_blocks() throws IOException {
+    // GIVEN
+    expected = largeContent(20_000);
+    byte[] actualContent = largeContent(20_000);
+    actualContent[17_000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(17_000);
+    then(result.actual).isEqualTo("0xCA");
+    then(result.expected).isEqualTo("0x68");
+  }
+
+  @Test
+  void should_return_diff_if_actual_ends_on_a_block_boundary() throws IOException {
+    // GIVEN
+    expected = largeContent(16_385);
+    actual = new ByteArrayInputStream(largeContent(16_384));
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.offset).isEqualTo(16_384);
+    then(result.actual).isEqualTo("EOF");
+    then(result.expected).isEqualTo("0x0");
+  }
+
+  @Test
+  void should_return_no_diff_if_inputstream_returns_partial_reads() throws IOException {
+    // GIVEN
+    expected = largeContent(20_000);
+    // only returns a few bytes per read
+    actual = new ByteArrayInputStream(largeContent(20_000)) {
+      @Override
+      public synchronized int read(byte[] b, int off, int len) {
+        return super.read(b, off, Math.min(len, 100));
+      }
+    };
+    // WHEN
+    BinaryDiffResult result = BINARY_DIFF.diff(actual, expected);
+    // THEN
+    then(result.hasNoDiff()).isTrue();
+  }
+
+  private static byte[] largeContent(int size) {
+    byte[] content = new byte[size];
+    for (int i = 0; i < size; i++) {
+      content[i] = (byte) i;
+    }
+    return content;
+  }
+
   private static InputStream stream(int... contents) {
     byte[] byteContents = bytes(contents);
     return new ByteArrayInputStream(byteContents);
@@ -121,4 +121,65 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_only_diff_the_lines_between_the_common_prefix_and_suffix() throws IOException {
+    actual = stream("base", "line_0", "line1", "line_2", "end");
+    expected = stream("base", "line0", "line1", "line2", "end");
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(0).lineNumber()).isEqualTo(2);
+    assertThat(diffs.get(1).lineNumber()).isEqualTo(4);
+  }
+
+  @Test
+  void should_return_a_truncated_diff_if_contents_have_more_lines_than_max_lines_for_content_diff() throws IOException {
+    // GIVEN
+    int maxLinesForContentDiff = Diff.getMaxLinesForContentDiff();
+    Diff.setMaxLinesForContentDiff(3);
+    actual = stream("base", "line_0", "line1", "line_2", "line3", "line4");
+    expected = stream("base", "line0", "line1", "line2", "line3", "line4");
+    try {
+      // WHEN
+      List<Delta<String>> diffs = diff.diff(actual, expected);
+      // THEN
+      assertThat(diffs).hasSize(2);
+      assertThat(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                                  + "expecting:%n"
+                                                  + "  [\"line0\"]%n"
+                                                  + "but was:%n"
+                                                  + "  [\"line_0\"]%n"));
+      assertThat(diffs.get(1)).hasToString(format("Content not compared from line 4: only 3 lines were compared after the "
+                                                  + "first difference (this can be changed with "
+                                                  + "Assertions.setMaxLinesForContentDiff)%n"));
+    } finally {
+      Diff.setMaxLinesForContentDiff(maxLinesForContentDiff);
+    }
+  }
+
+  @Test
+  void should_return_a_truncated_diff_if_only_one_content_has_more_lines_than_max_lines_for_content_diff() throws IOException {
+    // GIVEN
+    int maxLinesForContentDiff = Diff.getMaxLinesForContentDiff();
+    Diff.setMaxLinesForContentDiff(3);
+    actual = stream("base", "line_0", "line1", "line2", "line3", "line4");
+    expected = stream("base", "line0", "line1", "line2");
+    try {
+      // WHEN
+      List<Delta<String>> diffs = diff.diff(actual, expected);
+      // THEN
+      // expected was entirely compared, only the actual lines after the compared ones are reported as not compared
+      assertThat(diffs).hasSize(2);
+      assertThat(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                                  + "expecting:%n"
+                                                  + "  [\"line0\"]%n"
+                                                  + "but was:%n"
+                                                  + "  [\"line_0\"]%n"));
+      assertThat(diffs.get(1)).hasToString(format("Content not compared from line 5: only 3 lines were compared after the "
+                                                  + "first difference (this can be changed with "
+                                                  + "Assertions.setMaxLinesForContentDiff)%n"));
+    } finally {
+      Diff.setMaxLinesForContentDiff(maxLinesForContentDiff);
+    }
+  }
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.util.Lists.list;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +45,23 @@ class TransformingList_Test {
     then(transformed).isEqualTo(ImmutableList.of("1", "2", "3"));
   }
 
+  @Test
+  void should_transform_each_element_once() {
+    // GIVEN
+    List<Integer> source = list(1, 2, 3);
+    AtomicInteger transformations = new AtomicInteger();
+    List<String> transformed = new TransformingList<>(source, i -> {
+      transformations.incrementAndGet();
+      return i.toString();
+    });
+    // WHEN
+    transformed.get(0);
+    transformed.get(2);
+    transformed.get(0);
+    // THEN
+    then(transformations).hasValue(2);
+  }
+
   @Test
   void should_not_be_able_to_be_created_from_a_null_list() {
     // WHEN
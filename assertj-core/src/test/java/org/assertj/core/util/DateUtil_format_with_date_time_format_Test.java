@@ -20,6 +20,7 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,22 @@ class DateUtil_format_with_date_time_format_Test {
     assertThat(formatAsDatetime((Calendar) null)).isNull();
   }
 
+  @Test
+  void should_use_the_current_default_time_zone_when_it_has_changed_since_the_last_format() {
+    // GIVEN
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    Date date = new Date(0);
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+      formatAsDatetime(date);
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT+02:00"));
+      // WHEN
+      String formattedDate = formatAsDatetime(date);
+      // THEN
+      assertThat(formattedDate).isEqualTo("1970-01-01T02:00:00");
+    } finally {
+      TimeZone.setDefault(defaultTimeZone);
+    }
+  }
+
 }
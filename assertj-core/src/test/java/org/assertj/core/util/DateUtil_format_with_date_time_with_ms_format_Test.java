@@ -14,10 +14,18 @@ package org.assertj.core.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
+import static org.assertj.core.util.DateUtil.parseDatetimeWithMs;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +48,43 @@ class DateUtil_format_with_date_time_with_ms_format_Test {
     assertThat(formatAsDatetimeWithMs(null)).isNull();
   }
 
+  @Test
+  void should_format_and_parse_dates_from_several_threads() throws Exception {
+    // GIVEN
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    List<Callable<Boolean>> roundTrips = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      String formattedDate = formatAsDatetimeWithMs(new Date(i * 123_456_789L));
+      roundTrips.add(() -> formatAsDatetimeWithMs(parseDatetimeWithMs(formattedDate)).equals(formattedDate));
+    }
+    try {
+      // WHEN
+      List<Future<Boolean>> results = executor.invokeAll(roundTrips);
+      // THEN
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_use_the_current_default_time_zone_when_it_has_changed_since_the_last_format() {
+    // GIVEN
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    Date date = new Date(0);
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+      formatAsDatetimeWithMs(date);
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT+02:00"));
+      // WHEN
+      String formattedDate = formatAsDatetimeWithMs(date);
+      // THEN
+      assertThat(formattedDate).isEqualTo("1970-01-01T02:00:00.000");
+    } finally {
+      TimeZone.setDefault(defaultTimeZone);
+    }
+  }
+
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.parse;
 
 import java.util.Date;
+import java.util.TimeZone;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +45,21 @@ class DateUtil_parse_date_Test {
     assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> assertThat(parse("invalid date format")).isNull());
   }
 
+  @Test
+  void should_use_the_current_default_time_zone_when_it_has_changed_since_the_last_parse() {
+    // GIVEN
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    try {
+      TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+      parse("1970-01-01");
+      TimeZone.setDefault(TimeZone.getTimeZone("GMT+02:00"));
+      // WHEN
+      Date date = parse("1970-01-01");
+      // THEN
+      assertThat(date).hasTime(-2 * 60 * 60 * 1000);
+    } finally {
+      TimeZone.setDefault(defaultTimeZone);
+    }
+  }
+
 }
@@ -16,6 +16,7 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -78,4 +79,43 @@ class DiffTest {
     assertThat(deltas.size()).isEqualTo(1);
     assertThat(deltas.get(0)).isInstanceOf(InsertDelta.class);
   }
+
+  @Test
+  void testDiff_LargeListsWithFewDifferences() {
+    List<String> original = lines(20_000);
+    List<String> revised = lines(20_000);
+    revised.set(5_000, "changed");
+    revised.remove(15_000);
+
+    List<Delta<String>> deltas = DiffUtils.diff(original, revised).getDeltas();
+
+    assertThat(deltas).containsExactly(new ChangeDelta<>(new Chunk<>(5_000, newArrayList("line 5000")),
+                                                         new Chunk<>(5_000, newArrayList("changed"))),
+                                       new DeleteDelta<>(new Chunk<>(15_000, newArrayList("line 15000")),
+                                                         new Chunk<>(15_000, emptyList())));
+  }
+
+  @Test
+  void testDiff_LargeListsWithTooManyDifferences() {
+    List<String> original = lines(20_000);
+    List<String> revised = lines(20_000);
+    for (int i = 1; i < 19_999; i += 2) {
+      revised.set(i, "changed " + i);
+    }
+
+    List<Delta<String>> deltas = DiffUtils.diff(original, revised).getDeltas();
+
+    assertThat(deltas).hasSize(1);
+    assertThat(deltas.get(0).getOriginal().getPosition()).isEqualTo(1);
+    assertThat(deltas.get(0).getOriginal().size()).isEqualTo(19_997);
+    assertThat(DiffUtils.patch(original, DiffUtils.diff(original, revised))).isEqualTo(revised);
+  }
+
+  private static List<String> lines(int count) {
+    List<String> lines = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add("line " + i);
+    }
+    return lines;
+  }
 }
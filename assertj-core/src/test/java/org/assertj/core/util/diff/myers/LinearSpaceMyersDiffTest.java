@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  private final LinearSpaceMyersDiff<String> linearSpaceMyersDiff = new LinearSpaceMyersDiff<>();
+
+  @Test
+  void should_find_inserted_elements() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(newArrayList("hhh"), newArrayList("hhh", "jjj", "kkk"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new InsertDelta<>(new Chunk<>(1, emptyList()),
+                                                                    new Chunk<>(1, newArrayList("jjj", "kkk"))));
+  }
+
+  @Test
+  void should_find_deleted_elements() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(newArrayList("ddd", "fff", "ggg"), newArrayList("ggg"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new DeleteDelta<>(new Chunk<>(0, newArrayList("ddd", "fff")),
+                                                                    new Chunk<>(0, emptyList())));
+  }
+
+  @Test
+  void should_find_changed_elements() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(newArrayList("aaa", "bbb", "ccc"), newArrayList("aaa", "zzz", "ccc"));
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb")),
+                                                                    new Chunk<>(1, newArrayList("zzz"))));
+  }
+
+  @Test
+  void should_find_no_differences_in_equal_lists() {
+    // WHEN
+    Patch<String> patch = linearSpaceMyersDiff.diff(newArrayList("aaa", "bbb"), newArrayList("aaa", "bbb"));
+    // THEN
+    assertThat(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_as_many_differences_as_the_quadratic_space_algorithm() {
+    // GIVEN
+    Random random = new Random(0);
+    MyersDiff<String> myersDiff = new MyersDiff<>();
+    for (int i = 0; i < 200; i++) {
+      List<String> original = randomLetters(random);
+      List<String> revised = randomLetters(random);
+      // WHEN
+      Patch<String> patch = linearSpaceMyersDiff.diff(original, revised);
+      // THEN
+      assertThat(patch.applyTo(original)).isEqualTo(revised);
+      assertThat(editCost(patch)).isEqualTo(editCost(myersDiff.diff(original, revised)));
+    }
+  }
+
+  @Test
+  void should_return_a_single_delta_from_the_first_to_the_last_difference_when_the_edit_cost_is_greater_than_max_cost() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "xxx", "ccc", "yyy", "eee");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(3).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, newArrayList("bbb", "ccc", "ddd")),
+                                                                    new Chunk<>(1, newArrayList("xxx", "ccc", "yyy"))));
+    assertThat(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_find_all_differences_when_the_edit_cost_is_equal_to_max_cost() {
+    // GIVEN
+    List<String> original = newArrayList("aaa", "bbb", "ccc", "ddd", "eee");
+    List<String> revised = newArrayList("aaa", "xxx", "ccc", "yyy", "eee");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(4).diff(original, revised);
+    // THEN
+    assertThat(patch.getDeltas()).hasSize(2);
+  }
+
+  @Test
+  void should_fail_if_max_cost_is_not_greater_than_zero() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> new LinearSpaceMyersDiff<String>(0));
+    // THEN
+    assertThat(throwable).isInstanceOf(IllegalArgumentException.class)
+                         .hasMessage("maxCost must be greater than 0 but was 0");
+  }
+
+  private static List<String> randomLetters(Random random) {
+    int size = random.nextInt(30);
+    List<String> letters = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      letters.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return letters;
+  }
+
+  private static int editCost(Patch<String> patch) {
+    int cost = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      cost += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return cost;
+  }
+}
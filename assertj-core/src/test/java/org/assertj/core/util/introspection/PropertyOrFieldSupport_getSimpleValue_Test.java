@@ -14,6 +14,8 @@ package org.assertj.core.util.introspection;
 
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.introspection.Introspection.canExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.setExtractBareNamePropertyMethods;
 
 import java.util.AbstractMap;
 import java.util.Collection;
@@ -103,4 +105,77 @@ class PropertyOrFieldSupport_getSimpleValue_Test {
 
   }
 
+  @Nested
+  class With_bean_input {
+
+    @Test
+    void should_read_field_value_when_getter_fails_for_the_given_input() {
+      // GIVEN
+      underTest.getSimpleValue("name", new Jedi("Yoda", false));
+      Jedi jediWithFailingGetter = new Jedi("Luke", true);
+      // WHEN
+      Object value = underTest.getSimpleValue("name", jediWithFailingGetter);
+      // THEN
+      then(value).isEqualTo("Luke field");
+    }
+
+    @Test
+    void should_honor_private_fields_setting_changes() {
+      // GIVEN
+      PropertyOrFieldSupport propertyOrFieldSupport = new PropertyOrFieldSupport(new PropertySupport(), FieldSupport.COMPARISON);
+      Object value = propertyOrFieldSupport.getSimpleValue("secret", new Jedi("Yoda", false));
+      try {
+        propertyOrFieldSupport.setAllowUsingPrivateFields(false);
+        // WHEN
+        Throwable thrown = catchThrowable(() -> propertyOrFieldSupport.getSimpleValue("secret", new Jedi("Yoda", false)));
+        // THEN
+        then(value).isEqualTo("force");
+        then(thrown).isInstanceOf(IntrospectionError.class);
+      } finally {
+        propertyOrFieldSupport.setAllowUsingPrivateFields(true);
+      }
+    }
+
+    @Test
+    void should_honor_bare_name_property_methods_setting_changes() {
+      // GIVEN
+      boolean bareNamePropertyMethods = canExtractBareNamePropertyMethods();
+      setExtractBareNamePropertyMethods(false);
+      Object fieldValue = underTest.getSimpleValue("master", new Jedi("Luke", false));
+      try {
+        setExtractBareNamePropertyMethods(true);
+        // WHEN
+        Object bareNameMethodValue = underTest.getSimpleValue("master", new Jedi("Luke", false));
+        // THEN
+        then(fieldValue).isEqualTo("Yoda field");
+        then(bareNameMethodValue).isEqualTo("Yoda method");
+      } finally {
+        setExtractBareNamePropertyMethods(bareNamePropertyMethods);
+      }
+    }
+
+  }
+
+  @SuppressWarnings("unused")
+  private static class Jedi {
+    private final String name;
+    private final boolean failingGetter;
+    private final String secret = "force";
+    private final String master = "Yoda field";
+
+    Jedi(String name, boolean failingGetter) {
+      this.name = name + " field";
+      this.failingGetter = failingGetter;
+    }
+
+    public String getName() {
+      if (failingGetter) throw new IllegalStateException("boom");
+      return name.replace("field", "getter");
+    }
+
+    public String master() {
+      return "Yoda method";
+    }
+  }
+
 }
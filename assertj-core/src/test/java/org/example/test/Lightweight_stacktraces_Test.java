@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.example.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.setLightweightStackTraces;
+import static org.assertj.core.api.Assertions.setRemoveAssertJRelatedElementsFromStackTrace;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.type;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.StackTraceUtils.checkNoAssertjStackTraceElementIn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+
+class Lightweight_stacktraces_Test {
+
+  private boolean initialRemoveAssertJRelatedElementsFromStackTraceValue;
+  private boolean initialLightweightStackTracesValue;
+
+  @BeforeEach
+  void beforeTest() {
+    initialRemoveAssertJRelatedElementsFromStackTraceValue = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
+    initialLightweightStackTracesValue = Failures.instance().isLightweightStackTraces();
+    setRemoveAssertJRelatedElementsFromStackTrace(true);
+    setLightweightStackTraces(true);
+  }
+
+  @AfterEach
+  void afterTest() {
+    setRemoveAssertJRelatedElementsFromStackTrace(initialRemoveAssertJRelatedElementsFromStackTraceValue);
+    setLightweightStackTraces(initialLightweightStackTracesValue);
+  }
+
+  @Test
+  void should_only_keep_the_first_user_stack_trace_elements() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(0).isEqualTo(1));
+    // THEN
+    checkNoAssertjStackTraceElementIn(assertionError);
+    StackTraceElement[] stackTrace = assertionError.getStackTrace();
+    then(stackTrace).hasSizeBetween(1, StandardRepresentation.getMaxStackTraceElementsDisplayed());
+    then(stackTrace[0].getClassName()).isEqualTo(Lightweight_stacktraces_Test.class.getName());
+  }
+
+  @Test
+  void should_keep_java_elements_calling_the_user_code() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> list(1).forEach(i -> assertThat(i).isEqualTo(2)));
+    // THEN
+    checkNoAssertjStackTraceElementIn(assertionError);
+    then(assertionError.getStackTrace()).extracting(StackTraceElement::getClassName, StackTraceElement::getMethodName)
+                                        .contains(tuple(ArrayList.class.getName(), "forEach"));
+  }
+
+  @Test
+  void should_not_capture_the_stack_trace_of_intermediate_errors() {
+    // GIVEN
+    List<AssertionError> intermediateErrors = list();
+    // WHEN
+    assertThat(list(1, 2)).anySatisfy(i -> {
+      try {
+        assertThat(i).isGreaterThan(1);
+      } catch (AssertionError e) {
+        intermediateErrors.add(e);
+        throw e;
+      }
+    });
+    // THEN
+    then(intermediateErrors).singleElement()
+                            .satisfies(error -> then(error.getStackTrace()).isEmpty());
+  }
+
+  @Test
+  void should_keep_the_message_of_intermediate_errors() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(list(1, 2)).allSatisfy(i -> assertThat(i).isEqualTo(2)));
+    // THEN
+    then(assertionError).hasMessageContaining("expected: 2")
+                        .hasMessageContaining("but was: 1");
+    then(assertionError.getStackTrace()[0].getClassName()).startsWith(Lightweight_stacktraces_Test.class.getName());
+  }
+
+  @Test
+  void should_capture_the_stack_trace_of_soft_assertion_errors_collected_in_an_intermediate_assertion() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    assertThat(list(1)).anySatisfy(i -> softly.assertThat(i).isEqualTo(2));
+    // THEN
+    then(softly.assertionErrorsCollected()).singleElement()
+                                           .satisfies(error -> then(error.getStackTrace()[0].getClassName()).startsWith(Lightweight_stacktraces_Test.class.getName()));
+  }
+
+  @Test
+  void should_keep_the_actual_and_expected_values_of_soft_assertion_errors_collected_in_an_intermediate_assertion() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    assertThat(list(1)).anySatisfy(i -> softly.assertThat(i).isEqualTo(2));
+    // THEN
+    then(softly.assertionErrorsCollected()).singleElement()
+                                           .asInstanceOf(type(AssertionFailedError.class))
+                                           .satisfies(error -> {
+                                             then(error.getActual().getValue()).isEqualTo("1");
+                                             then(error.getExpected().getValue()).isEqualTo("2");
+                                           });
+  }
+}
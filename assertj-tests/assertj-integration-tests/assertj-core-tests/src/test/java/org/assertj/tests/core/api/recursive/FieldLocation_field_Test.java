@@ -43,4 +43,29 @@ class FieldLocation_field_Test {
     then(childFieldLocation.getPathToUseInRules()).isEqualTo("person.children.name");
     then(childFieldLocation.getFieldName()).isEqualTo("name");
   }
+
+  @Test
+  void should_be_equal_to_the_field_location_built_from_the_whole_path() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation(list("person", "[0]"));
+    // WHEN
+    FieldLocation childFieldLocation = parentFieldLocation.field("name");
+    // THEN
+    then(childFieldLocation).isEqualTo(new FieldLocation(list("person", "[0]", "name")))
+                            .hasSameHashCodeAs(new FieldLocation(list("person", "[0]", "name")))
+                            .isNotEqualTo(new FieldLocation(list("person", "[1]", "name")));
+    then(parentFieldLocation.getDecomposedPath()).isEqualTo(list("person", "[0]"));
+  }
+
+  @Test
+  void should_share_the_path_to_use_in_rules_of_elements_children() {
+    // GIVEN
+    FieldLocation parentFieldLocation = new FieldLocation("person.children");
+    // WHEN
+    FieldLocation firstChildNameLocation = parentFieldLocation.field("[0]").field("name");
+    FieldLocation secondChildNameLocation = parentFieldLocation.field("[1]").field("name");
+    // THEN
+    then(firstChildNameLocation.getPathToUseInRules()).isEqualTo("person.children.name")
+                                                      .isSameAs(secondChildNameLocation.getPathToUseInRules());
+  }
 }
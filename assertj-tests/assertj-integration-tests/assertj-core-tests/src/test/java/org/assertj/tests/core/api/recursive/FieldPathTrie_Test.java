@@ -0,0 +1,88 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.assertj.core.api.recursive.comparison.FieldPathTrie;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class FieldPathTrie_Test {
+
+  private static final FieldPathTrie FIELD_PATHS = new FieldPathTrie(list("name.first", "age", "address.street.number"));
+
+  @ParameterizedTest(name = "{0} hierarchy matches {1}: {2}")
+  @MethodSource
+  void hierarchyMatchesAny_should_check_all_field_paths(List<String> fieldPath, boolean expected) {
+    // GIVEN
+    FieldLocation field = new FieldLocation(fieldPath);
+    // WHEN
+    boolean result = FIELD_PATHS.hierarchyMatchesAny(field);
+    // THEN
+    then(result).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> hierarchyMatchesAny_should_check_all_field_paths() {
+    return Stream.of(arguments(list("age"), true),
+                     arguments(list("name", "first"), true),
+                     arguments(list("name", "first", "nickname"), true),
+                     arguments(list("friends", "[0]"), false),
+                     arguments(list("address", "[0]", "street", "number"), true),
+                     arguments(list("name"), false),
+                     arguments(list("address", "street"), false),
+                     arguments(list("ages"), false),
+                     arguments(list("person", "age"), false),
+                     arguments(list(), false));
+  }
+
+  @ParameterizedTest(name = "{0} hierarchy matches or has child in {1}: {2}")
+  @MethodSource
+  void hierarchyMatchesOrHasChildInAny_should_check_all_field_paths(List<String> fieldPath, boolean expected) {
+    // GIVEN
+    FieldLocation field = new FieldLocation(fieldPath);
+    // WHEN
+    boolean result = FIELD_PATHS.hierarchyMatchesOrHasChildInAny(field);
+    // THEN
+    then(result).isEqualTo(expected);
+  }
+
+  private static Stream<Arguments> hierarchyMatchesOrHasChildInAny_should_check_all_field_paths() {
+    return Stream.of(arguments(list("age"), true),
+                     arguments(list("name", "first", "nickname"), true),
+                     arguments(list("name"), true),
+                     arguments(list("address", "street"), true),
+                     arguments(list("address", "[1]"), true),
+                     arguments(list("address", "city"), false),
+                     arguments(list("ages"), false),
+                     arguments(list("person", "age"), false));
+  }
+
+  @Test
+  void should_not_match_anything_when_empty() {
+    // GIVEN
+    FieldPathTrie fieldPaths = new FieldPathTrie(list());
+    // WHEN/THEN
+    then(fieldPaths.size()).isZero();
+    then(fieldPaths.hierarchyMatchesAny(new FieldLocation("name"))).isFalse();
+    then(fieldPaths.hierarchyMatchesOrHasChildInAny(new FieldLocation("name"))).isFalse();
+  }
+}
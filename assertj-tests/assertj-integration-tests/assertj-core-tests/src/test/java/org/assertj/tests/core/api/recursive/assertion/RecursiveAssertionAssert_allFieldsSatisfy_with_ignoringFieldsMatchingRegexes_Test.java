@@ -17,7 +17,9 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.tests.core.util.AssertionsUtil.expectAssertionError;
 
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
+import org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration;
 import org.junit.jupiter.api.Test;
 
 class RecursiveAssertionAssert_allFieldsSatisfy_with_ignoringFieldsMatchingRegexes_Test {
@@ -50,6 +52,25 @@ class RecursiveAssertionAssert_allFieldsSatisfy_with_ignoringFieldsMatchingRegex
     then(error).hasMessageContaining("[address, age]");
   }
 
+  @Test
+  void should_honor_regexes_changed_through_the_configuration_getter_after_an_assertion() {
+    // GIVEN
+    Person sherlock = new Person("Sherlock", "Detective", 60);
+    sherlock.address.street = "Baker Street";
+    sherlock.address.number = 221;
+    Predicate<Object> isString = field -> field instanceof String;
+    RecursiveAssertionConfiguration configuration = RecursiveAssertionConfiguration.builder()
+                                                                                   .withIgnoredFieldsMatchingRegexes("ad.*", "ag.")
+                                                                                   .build();
+    then(sherlock).usingRecursiveAssertion(configuration).allFieldsSatisfy(isString);
+    // WHEN
+    configuration.getIgnoredFieldsRegexes().set(0, Pattern.compile("name"));
+    AssertionError error = expectAssertionError(() -> assertThat(sherlock).usingRecursiveAssertion(configuration)
+                                                                          .allFieldsSatisfy(isString));
+    // THEN
+    then(error).hasMessageContaining("[address, address.number]");
+  }
+
   static class Person {
     String name;
     String occupation;
@@ -0,0 +1,195 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.assertion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.assertj.core.api.recursive.assertion.RecursiveAssertionConfiguration;
+import org.assertj.core.api.recursive.assertion.RecursiveAssertionDriver;
+import org.assertj.core.api.recursive.comparison.FieldLocation;
+import org.junit.jupiter.api.Test;
+
+class RecursiveAssertionAssert_withParallelism_Test {
+
+  private static final String UNKNOWN = "unknown";
+  private static final Predicate<Object> IS_KNOWN = value -> !(value instanceof String) || !((String) value).startsWith(UNKNOWN);
+
+  @Test
+  void should_pass_when_all_fields_satisfy_the_predicate_in_parallel() {
+    // GIVEN
+    List<Employee> employees = employees(100);
+    // WHEN/THEN
+    assertThat(employees).usingRecursiveAssertion()
+                         .withParallelism(4)
+                         .allFieldsSatisfy(IS_KNOWN);
+  }
+
+  @Test
+  void should_report_the_same_failing_fields_as_the_sequential_assertion() {
+    // GIVEN
+    List<Employee> employees = employees(100);
+    employees.get(3).name = unknown("name");
+    employees.get(42).address.street = unknown("street");
+    employees.get(99).address = new Address(unknown("street"));
+    // WHEN
+    List<FieldLocation> failingFields = failingFieldsWithParallelism(employees, IS_KNOWN, 4);
+    // THEN
+    then(failingFields).containsExactly(rootFieldLocation().field("[42]").field("address").field("street"),
+                                        rootFieldLocation().field("[99]").field("address").field("street"),
+                                        rootFieldLocation().field("[3]").field("name"))
+                       .isEqualTo(failingFieldsWithParallelism(employees, IS_KNOWN, 1));
+  }
+
+  @Test
+  void should_report_the_fields_of_a_shared_object_under_the_first_element_reaching_it() {
+    // GIVEN
+    List<Employee> employees = employees(100);
+    Department sharedDepartment = new Department(unknown("department"), new Address(unknown("street")));
+    employees.forEach(employee -> employee.department = sharedDepartment);
+    employees.get(42).name = unknown("name");
+    // WHEN
+    List<FieldLocation> failingFields = failingFieldsWithParallelism(employees, IS_KNOWN, 4);
+    // THEN
+    then(failingFields).containsExactly(rootFieldLocation().field("[0]").field("department").field("address").field("street"),
+                                        rootFieldLocation().field("[0]").field("department").field("name"),
+                                        rootFieldLocation().field("[42]").field("name"))
+                       .isEqualTo(failingFieldsWithParallelism(employees, IS_KNOWN, 1));
+  }
+
+  @Test
+  void should_report_the_fields_of_a_shared_object_as_the_sequential_assertion_when_ignored_fields_depend_on_its_location() {
+    // GIVEN
+    List<Employee> employees = employees(100);
+    Department sharedDepartment = new Department(unknown("department"), new Address(unknown("street")));
+    employees.get(0).formerDepartment = sharedDepartment;
+    employees.subList(50, 100).forEach(employee -> employee.department = sharedDepartment);
+    RecursiveAssertionConfiguration configuration = RecursiveAssertionConfiguration.builder()
+                                                                                   .withIgnoredFields("formerDepartment.name")
+                                                                                   .withParallelism(4)
+                                                                                   .build();
+    // WHEN
+    List<FieldLocation> failingFields = new RecursiveAssertionDriver(configuration).assertOverObjectGraph(IS_KNOWN,
+                                                                                                          employees);
+    // THEN
+    // the shared department is first reached as the former department of the first employee where its name is ignored
+    then(failingFields).containsExactly(rootFieldLocation().field("[0]").field("formerDepartment").field("address")
+                                                           .field("street"));
+  }
+
+  @Test
+  void should_report_the_same_failing_fields_as_the_sequential_assertion_when_cycles_span_several_elements() {
+    // GIVEN
+    List<Employee> employees = employees(10);
+    // each employee is managed by the next one, the last one being managed by the first one
+    for (int i = 0; i < employees.size(); i++) {
+      employees.get(i).manager = employees.get((i + 1) % employees.size());
+    }
+    employees.get(2).name = unknown("name");
+    // WHEN
+    List<FieldLocation> failingFields = failingFieldsWithParallelism(employees, IS_KNOWN, 4);
+    // THEN
+    then(failingFields).containsExactly(rootFieldLocation().field("[0]").field("manager").field("manager").field("name"))
+                       .isEqualTo(failingFieldsWithParallelism(employees, IS_KNOWN, 1));
+  }
+
+  @Test
+  void should_report_the_failing_fields_in_the_same_order_whatever_the_element_reaching_shared_objects_first() {
+    // GIVEN
+    List<Employee> employees = employees(1000);
+    List<Department> departments = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      departments.add(new Department(i % 2 == 0 ? unknown("department") : "department-" + i, new Address(unknown("street"))));
+    }
+    for (int i = 0; i < employees.size(); i++) {
+      Employee employee = employees.get(i);
+      employee.department = departments.get((i * 31) % departments.size());
+      if (i % 3 == 0) employee.manager = employees.get((i * 17) % employees.size());
+      if (i % 5 == 0) employee.address.street = unknown("street");
+    }
+    List<FieldLocation> sequentialFailingFields = failingFieldsWithParallelism(employees, IS_KNOWN, 1);
+    // WHEN
+    List<List<FieldLocation>> failingFieldsOfSeveralRuns = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      failingFieldsOfSeveralRuns.add(failingFieldsWithParallelism(employees, IS_KNOWN, 8));
+    }
+    // THEN
+    then(failingFieldsOfSeveralRuns).allSatisfy(failingFields -> assertThat(failingFields).isEqualTo(sequentialFailingFields));
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_greater_than_zero() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> RecursiveAssertionConfiguration.builder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
+
+  private static List<FieldLocation> failingFieldsWithParallelism(Object object, Predicate<Object> predicate, int parallelism) {
+    RecursiveAssertionConfiguration configuration = RecursiveAssertionConfiguration.builder()
+                                                                                   .withParallelism(parallelism)
+                                                                                   .build();
+    return new RecursiveAssertionDriver(configuration).assertOverObjectGraph(predicate, object);
+  }
+
+  private static String unknown(String value) {
+    // not a constant so that failing values are distinct objects, the recursive assertion evaluates an object only once
+    return UNKNOWN + " " + value;
+  }
+
+  private static List<Employee> employees(int size) {
+    List<Employee> employees = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      employees.add(new Employee("employee-" + i, new Address(i + " Baker Street")));
+    }
+    return employees;
+  }
+
+  static class Employee {
+    String name;
+    Address address;
+    Department department;
+    Department formerDepartment;
+    Employee manager;
+
+    Employee(String name, Address address) {
+      this.name = name;
+      this.address = address;
+    }
+  }
+
+  static class Department {
+    String name;
+    Address address;
+
+    Department(String name, Address address) {
+      this.name = name;
+      this.address = address;
+    }
+  }
+
+  static class Address {
+    String street;
+
+    Address(String street) {
+      this.street = street;
+    }
+  }
+}
@@ -51,7 +51,8 @@ class RecursiveAssertionConfiguration_toString_Test {
                                           .withCollectionAssertionPolicy(ELEMENTS_ONLY)
                                           .withMapAssertionPolicy(MAP_VALUES_ONLY)
                                           .withOptionalAssertionPolicy(OPTIONAL_VALUE_ONLY)
-                                          .withIntrospectionStrategy(new MyIntrospectionStrategy());
+                                          .withIntrospectionStrategy(new MyIntrospectionStrategy())
+                                          .withParallelism(4);
     // WHEN
     RecursiveAssertionConfiguration recursiveAssertionConfiguration = recursiveAssertionConfigurationBuilder.build();
     // THEN
@@ -65,7 +66,8 @@ class RecursiveAssertionConfiguration_toString_Test {
                                                              "- the collection assertion policy was ELEMENTS_ONLY%n" +
                                                              "- the map assertion policy was MAP_VALUES_ONLY%n" +
                                                              "- the optional assertion policy was OPTIONAL_VALUE_ONLY%n"+
-                                                             "- the introspection strategy used was: not introspecting anything!%n"));
+                                                             "- the introspection strategy used was: not introspecting anything!%n" +
+                                                             "- independent parts of the object graph were asserted in parallel using 4 threads%n"));
     //@format:on
   }
 
@@ -60,6 +60,32 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
     thenNoException().isThrownBy(() -> objectUnderTest.assertOverObjectGraph(boomOnOveruse, objectTree));
   }
 
+  @Test
+  void should_evaluate_distinct_objects_equal_by_equals_and_hashCode() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    Pair pair = new Pair(new EqualToAnyOtherLeaf(), new EqualToAnyOtherLeaf());
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(failingMockPredicate, pair);
+    // THEN
+    then(failedFields).containsExactly(rootFieldLocation().field("left"), rootFieldLocation().field("right"));
+  }
+
+  @Test
+  void should_detect_cycle_of_objects_equal_by_equals_and_hashCode() {
+    // GIVEN
+    RecursiveAssertionDriver objectUnderTest = testSubjectWithDefaultConfiguration();
+    EqualToAnyOtherNode first = new EqualToAnyOtherNode();
+    EqualToAnyOtherNode second = new EqualToAnyOtherNode();
+    first.next = second;
+    second.next = first;
+    Predicate<Object> boomOnOveruse = predicateThatThrowsWhenCalledTooOften(10);
+    // WHEN
+    List<FieldLocation> failedFields = objectUnderTest.assertOverObjectGraph(boomOnOveruse, first);
+    // THEN
+    then(failedFields).containsExactly(rootFieldLocation().field("next"));
+  }
+
   private Predicate<Object> predicateThatThrowsWhenCalledTooOften(int maxCalls) {
     AtomicInteger callLimit = new AtomicInteger(maxCalls - 1);
     return o -> {
@@ -68,4 +94,40 @@ class RecursiveAssertionDriver_RecursionTest extends AbstractRecursiveAssertionD
       return false;
     };
   }
+
+  static class Pair {
+    final EqualToAnyOtherLeaf left;
+    final EqualToAnyOtherLeaf right;
+
+    Pair(EqualToAnyOtherLeaf left, EqualToAnyOtherLeaf right) {
+      this.left = left;
+      this.right = right;
+    }
+  }
+
+  static class EqualToAnyOtherLeaf {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualToAnyOtherLeaf;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
+
+  static class EqualToAnyOtherNode {
+    EqualToAnyOtherNode next;
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualToAnyOtherNode;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+  }
 }
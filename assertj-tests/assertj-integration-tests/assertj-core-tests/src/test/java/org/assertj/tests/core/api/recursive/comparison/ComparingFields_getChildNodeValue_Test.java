@@ -13,6 +13,7 @@
 package org.assertj.tests.core.api.recursive.comparison;
 
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.setAllowComparingPrivateFields;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.recursive.comparison.ComparingFields.COMPARING_FIELDS;
 
@@ -65,6 +66,37 @@ class ComparingFields_getChildNodeValue_Test {
                    .hasMessageContaining("Unable to obtain the value of the field <'publicStaticField'>");
   }
 
+  @Test
+  void getChildNodeValue_should_read_inherited_fields_and_fields_hiding_inherited_ones() {
+    // GIVEN
+    SubFields node = new SubFields();
+    // WHEN / THEN
+    then(COMPARING_FIELDS.getChildNodeValue("privateField", node)).isEqualTo("SubFields privateField value");
+    then(COMPARING_FIELDS.getChildNodeValue("publicField", node)).isEqualTo("publicField value");
+  }
+
+  @Test
+  void getChildNodeValue_should_not_read_private_fields_when_not_allowed() {
+    // GIVEN
+    Fields node = new Fields();
+    setAllowComparingPrivateFields(false);
+    try {
+      // WHEN
+      Throwable throwable = catchThrowable(() -> COMPARING_FIELDS.getChildNodeValue("privateField", node));
+      // THEN
+      then(throwable).isInstanceOf(IntrospectionError.class)
+                     .hasMessageContaining("Unable to obtain the value of the field <'privateField'>");
+      then(COMPARING_FIELDS.getChildNodeValue("publicField", node)).isEqualTo("publicField value");
+    } finally {
+      setAllowComparingPrivateFields(true);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  static class SubFields extends Fields {
+    private final Object privateField = "SubFields privateField value";
+  }
+
   @SuppressWarnings("unused")
   static class Fields {
     public static final Object publicStaticField = "publicStaticField value";
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.FieldLocation;
 import org.assertj.tests.core.api.recursive.data.FriendlyPerson;
 import org.assertj.tests.core.api.recursive.data.Human;
 import org.assertj.tests.core.api.recursive.data.Person;
@@ -219,6 +220,22 @@ class RecursiveComparisonAssert_isEqualTo_comparingOnlyFields_Test extends Recur
                                            diff("deleted", staff.deleted, staffWithLessFields.deleted));
   }
 
+  @Test
+  void should_honor_compared_fields_changed_through_the_configuration_getter_after_a_comparison() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    recursiveComparisonConfiguration.compareOnlyFields("name");
+    compareRecursivelyFailsWithDifferences(actual, expected, diff("name", "John", "Jack"));
+    // WHEN
+    recursiveComparisonConfiguration.getComparedFields().clear();
+    recursiveComparisonConfiguration.getComparedFields().add(new FieldLocation("home.address.number"));
+    // THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, diff("home.address.number", 1, 2));
+  }
+
   // https://github.com/assertj/assertj/issues/2610
   static class A1 {
     final int a, b;
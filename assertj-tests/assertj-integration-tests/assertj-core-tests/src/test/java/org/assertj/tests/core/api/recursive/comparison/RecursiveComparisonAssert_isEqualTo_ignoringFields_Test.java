@@ -595,6 +595,22 @@ class RecursiveComparisonAssert_isEqualTo_ignoringFields_Test extends RecursiveC
                 .isEqualTo(expected);
   }
 
+  @Test
+  void should_honor_ignored_fields_changed_through_the_configuration_getter_after_a_comparison() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    recursiveComparisonConfiguration.ignoreFields("name");
+    compareRecursivelyFailsWithDifferences(actual, expected, diff("home.address.number", 1, 2));
+    // WHEN
+    recursiveComparisonConfiguration.getIgnoredFields().remove("name");
+    recursiveComparisonConfiguration.getIgnoredFields().add("home.address.number");
+    // THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, diff("name", "John", "Jack"));
+  }
+
   @Test
   void should_honor_ignored_fields_regex_in_inner_list() {
     // GIVEN
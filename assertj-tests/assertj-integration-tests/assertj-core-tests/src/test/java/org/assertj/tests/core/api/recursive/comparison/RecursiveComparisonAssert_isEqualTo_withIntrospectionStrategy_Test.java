@@ -391,4 +391,32 @@ class RecursiveComparisonAssert_isEqualTo_withIntrospectionStrategy_Test
       this.racename = racename;
     }
   }
+
+  @Test
+  void should_read_each_property_once_with_property_based_introspection() {
+    // GIVEN
+    Temperature actual = new Temperature(20);
+    Temperature expected = new Temperature(20);
+    // WHEN
+    then(actual).usingRecursiveComparison()
+                .withIntrospectionStrategy(COMPARING_PROPERTIES)
+                .isEqualTo(expected);
+    // THEN
+    then(actual.fahrenheitReadsCount).isOne();
+    then(expected.fahrenheitReadsCount).isOne();
+  }
+
+  static class Temperature {
+    private final double celsius;
+    int fahrenheitReadsCount;
+
+    Temperature(double celsius) {
+      this.celsius = celsius;
+    }
+
+    public double getFahrenheit() {
+      fahrenheitReadsCount++;
+      return celsius * 9 / 5 + 32;
+    }
+  }
 }
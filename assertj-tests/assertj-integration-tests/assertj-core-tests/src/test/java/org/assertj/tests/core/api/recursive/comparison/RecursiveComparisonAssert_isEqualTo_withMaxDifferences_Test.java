@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDifferences_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_pass_when_comparing_equal_objects() {
+    // GIVEN
+    List<Person> actual = persons(10);
+    List<Person> expected = persons(10);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .stoppingAtFirstDifference()
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_only_report_the_first_difference_found() {
+    // GIVEN
+    Person actual = new Person("John");
+    actual.home.address.number = 1;
+    Person expected = new Person("Jack");
+    expected.home.address.number = 2;
+    recursiveComparisonConfiguration.setMaxDifferences(1);
+    // WHEN/THEN
+    compareRecursivelyFailsWithDifferences(actual, expected, diff("home.address.number", 1, 2));
+  }
+
+  @Test
+  void should_stop_once_max_differences_have_been_found() {
+    // GIVEN
+    List<Person> actual = persons(10);
+    List<Person> expected = persons(10);
+    expected.forEach(person -> person.name = "Jack");
+    // WHEN
+    List<ComparisonDifference> differences = determineDifferencesWith(actual, expected, configBuilder().withMaxDifferences(3));
+    // THEN
+    then(differences).hasSize(3)
+                     .isSubsetOf(determineDifferencesWith(actual, expected, configBuilder()));
+  }
+
+  @Test
+  void should_report_the_same_differences_when_comparing_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.forEach(person -> person.home.address.number = -1);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferencesWith(actual, expected,
+                                                                              configBuilder().withMaxDifferences(5)
+                                                                                             .withParallelism(4));
+    // THEN
+    then(parallelDifferences).hasSize(5)
+                             .isEqualTo(determineDifferencesWith(actual, expected, configBuilder().withMaxDifferences(5)));
+  }
+
+  @Test
+  void should_fail_if_max_differences_is_not_greater_than_zero() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> recursiveComparisonConfiguration.setMaxDifferences(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("maxDifferences must be greater than 0 but was 0");
+  }
+
+  private List<ComparisonDifference> determineDifferencesWith(Object actual, Object expected,
+                                                              RecursiveComparisonConfiguration.Builder configBuilder) {
+    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, configBuilder.build());
+  }
+
+  private static RecursiveComparisonConfiguration.Builder configBuilder() {
+    return RecursiveComparisonConfiguration.builder();
+  }
+
+  private static List<Person> persons(int size) {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Person person = new Person("person-" + i);
+      person.home.address.number = i;
+      persons.add(person);
+    }
+    return persons;
+  }
+
+}
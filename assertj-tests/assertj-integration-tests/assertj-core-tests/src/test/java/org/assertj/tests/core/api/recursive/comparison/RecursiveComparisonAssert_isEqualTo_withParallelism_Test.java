@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
+import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
+import org.assertj.tests.core.api.recursive.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private final RecursiveComparisonDifferenceCalculator recursiveComparisonDifferenceCalculator = new RecursiveComparisonDifferenceCalculator();
+
+  @Test
+  void should_pass_when_comparing_equal_objects_in_parallel() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    expected.get(3).name = "Jack";
+    expected.get(42).home.address.number = -1;
+    expected.get(99).neighbour = new Person("Tim");
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferencesWithParallelism(actual, expected, 4);
+    // THEN
+    then(parallelDifferences).hasSize(3)
+                             .isEqualTo(determineDifferencesWithParallelism(actual, expected, 1));
+  }
+
+  @Test
+  void should_report_the_same_differences_as_the_sequential_comparison_when_compared_objects_share_values() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    Person actualNeighbour = new Person("Jack");
+    Person expectedNeighbour = new Person("Tim");
+    // the same neighbour values are reached from different elements, the second time they are reported as already visited
+    actual.forEach(person -> person.neighbour = actualNeighbour);
+    expected.forEach(person -> person.neighbour = expectedNeighbour);
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = determineDifferencesWithParallelism(actual, expected, 4);
+    // THEN
+    then(parallelDifferences).isEqualTo(determineDifferencesWithParallelism(actual, expected, 1));
+  }
+
+  @Test
+  void should_compare_sequentially_when_only_checking_equality() {
+    // GIVEN
+    List<Person> actual = persons(100);
+    List<Person> expected = persons(100);
+    Set<Thread> comparingThreads = ConcurrentHashMap.newKeySet();
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withParallelism(4)
+                                                                                     .withComparatorForType((name1, name2) -> {
+                                                                                       comparingThreads.add(Thread.currentThread());
+                                                                                       return name1.compareTo(name2);
+                                                                                     }, String.class)
+                                                                                     .build();
+    // WHEN
+    boolean areEqual = recursiveComparisonDifferenceCalculator.areEqual(actual, expected, configuration);
+    // THEN
+    then(areEqual).isTrue();
+    then(comparingThreads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_not_greater_than_zero() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> recursiveComparisonConfiguration.setParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("parallelism must be greater than 0 but was 0");
+  }
+
+  private List<ComparisonDifference> determineDifferencesWithParallelism(Object actual, Object expected, int parallelism) {
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withParallelism(parallelism)
+                                                                                     .build();
+    return recursiveComparisonDifferenceCalculator.determineDifferences(actual, expected, configuration);
+  }
+
+  private static List<Person> persons(int size) {
+    List<Person> persons = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      Person person = new Person("person-" + i);
+      person.home.address.number = i;
+      persons.add(person);
+    }
+    return persons;
+  }
+
+}
@@ -378,6 +378,22 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getIntrospectionStrategy()).isSameAs(myIntrospectionStrategy);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(8).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(8);
+  }
+
+  @Test
+  void should_set_max_differences() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withMaxDifferences(5).build();
+    // THEN
+    then(configuration.getMaxDifferences()).isEqualTo(5);
+  }
+
   private static Builder configBuilder() {
     return RecursiveComparisonConfiguration.builder();
   }
@@ -421,6 +421,26 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     then(multiLineDescription).contains("- enums can be compared against strings (and vice versa), e.g. Color.RED and \"RED\" are considered equal");
   }
 
+  @Test
+  void should_show_the_parallelism_used() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains(format("- independent parts of the objects graph were compared in parallel using 4 threads%n"));
+  }
+
+  @Test
+  void should_show_the_max_differences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(3);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    then(multiLineDescription).contains(format("- the comparison stops after finding 3 difference(s)%n"));
+  }
+
   // just to test the description does not fail when given a comparator with various String.format reserved flags
   private static class PercentageComparator implements Comparator<Double> {
 
@@ -20,6 +20,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import org.assertj.core.api.AssumptionExceptionFactory;
 import org.assertj.core.configuration.Configuration;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -45,10 +46,13 @@ class Configuration_apply_Test {
     // a bit dodgy but since our custom representation inherits StandardRepresentation, changing maxElementsForPrinting and
     // maxLengthForSingleLineDescription will be effective.
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
+    then(StandardRepresentation.getMaxCharactersForPrinting()).isEqualTo(configuration.maxCharactersForPrinting());
     then(StandardRepresentation.getMaxStackTraceElementsDisplayed()).isEqualTo(configuration.maxStackTraceElementsDisplayed());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
+    then(Diff.getMaxLinesForContentDiff()).isEqualTo(configuration.maxLinesForContentDiff());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
+    then(Failures.instance().isLightweightStackTraces()).isEqualTo(configuration.lightweightStackTracesEnabled());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
     then(configuration.lenientDateParsingEnabled()).isTrue();
     Date dateTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").parse("2001-02-03T04:05:06");
@@ -52,10 +52,13 @@ class Configuration_describe_Test {
                                        "- additional date formats ......................... = [yyyy_MM_dd, yyyy|MM|dd]%n" +
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
+                                       "- maxCharactersForPrinting ........................ = 1000001%n" +
                                        "- maxStackTraceElementsDisplayed................... = 4%n" +
+                                       "- maxLinesForContentDiff .......................... = 100001%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
+                                       "- lightweightStackTracesEnabled ................... = true%n" +
                                        "- preferredAssumptionException .................... = TEST_NG(org.testng.SkipException)%n"));
   }
 
@@ -51,6 +51,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxElementsForPrinting() + 1;
   }
 
+  @Override
+  public int maxCharactersForPrinting() {
+    return super.maxCharactersForPrinting() + 1;
+  }
+
   @Override
   public int maxLengthForSingleLineDescription() {
     return super.maxLengthForSingleLineDescription() + 1;
@@ -61,6 +66,11 @@ class NonDefaultConfiguration extends Configuration {
     return !super.removeAssertJRelatedElementsFromStackTraceEnabled();
   }
 
+  @Override
+  public boolean lightweightStackTracesEnabled() {
+    return !super.lightweightStackTracesEnabled();
+  }
+
   @Override
   public boolean lenientDateParsingEnabled() {
     return !super.lenientDateParsingEnabled();
@@ -71,6 +81,11 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxStackTraceElementsDisplayed() + 1;
   }
 
+  @Override
+  public int maxLinesForContentDiff() {
+    return super.maxLinesForContentDiff() + 1;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return List.of(DATE_FORMAT1, DATE_FORMAT2);
@@ -17,6 +17,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Strings.quote;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -204,6 +205,79 @@ class StandardRepresentation_array_format_Test extends AbstractBaseRepresentatio
     then(formatted).isEqualTo("[\"First\", \"Second\", ... \"Seventh\"]");
   }
 
+  @Test
+  void should_format_array_up_to_the_maximum_allowed_characters() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(20);
+    Object[] array = { "First", "Second", "Third", "Fourth", "Fifth", "Sixth", "Seventh" };
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(array);
+    // THEN
+    then(formatted).isEqualTo("[\"First\", \"Second\", ...]");
+  }
+
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Object[] array, Object root) {
+        return "single line";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array("First", "Second"));
+    // THEN
+    then(formatted).isEqualTo("single line");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Object[] array, Object root) {
+        return "multi line";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array(StringUtils.repeat("a", 50), StringUtils.repeat("b", 50)));
+    // THEN
+    then(formatted).isEqualTo("multi line");
+  }
+
+  @Test
+  void should_use_overridden_array_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String format(Object[] array, String start, String end, String elementSeparator, String indentation,
+                              Object root) {
+        return "array format";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array("First", "Second"));
+    // THEN
+    then(formatted).isEqualTo("array format");
+  }
+
+  @Test
+  void should_use_overridden_list_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String format(List<?> elements, String start, String end, String elementSeparator, String indentation,
+                              Object root) {
+        return "list format";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(array("First", "Second"));
+    // THEN
+    then(formatted).isEqualTo("list format");
+  }
+
   @Test
   void should_format_array_with_one_element_per_line() {
     // GIVEN
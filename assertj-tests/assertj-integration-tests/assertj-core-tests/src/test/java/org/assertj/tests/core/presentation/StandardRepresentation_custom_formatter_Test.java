@@ -19,6 +19,15 @@ import static org.assertj.core.presentation.HexadecimalRepresentation.HEXA_REPRE
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.assertj.core.api.Assertions;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.AfterEach;
@@ -65,6 +74,40 @@ class StandardRepresentation_custom_formatter_Test {
     then(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("8");
   }
 
+  @Test
+  void should_represent_objects_while_formatters_are_registered_concurrently() throws Exception {
+    // GIVEN
+    Object longNumber = 123L;
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Callable<Set<String>>> representations = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      representations.add(() -> {
+        Set<String> longRepresentations = new HashSet<>();
+        for (int j = 0; j < 10_000; j++) {
+          longRepresentations.add(STANDARD_REPRESENTATION.toStringOf(longNumber));
+        }
+        return longRepresentations;
+      });
+    }
+    representations.add(() -> {
+      for (int j = 0; j < 10_000; j++) {
+        StandardRepresentation.registerFormatterForType(Long.class, value -> "$" + value + "$");
+        StandardRepresentation.removeAllRegisteredFormatters();
+      }
+      return new HashSet<>();
+    });
+    try {
+      // WHEN
+      List<Future<Set<String>>> results = executor.invokeAll(representations);
+      // THEN
+      for (Future<Set<String>> result : results) {
+        then(result.get()).isSubsetOf("123L", "$123$");
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   void should_return_null_when_registered_formatter_returns_null() {
     // GIVEN
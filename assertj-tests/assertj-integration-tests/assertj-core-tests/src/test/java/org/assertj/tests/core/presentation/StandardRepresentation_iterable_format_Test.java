@@ -274,6 +274,129 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(countMatches(formatted, "0")).isEqualTo(Configuration.MAX_ELEMENTS_FOR_PRINTING * elementsPerArray);
   }
 
+  @Test
+  void should_only_represent_displayed_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    List<CountingToString> list = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      list.add(new CountingToString(String.valueOf(i)));
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo("[0, 1, ... 8, 9]");
+    then(list).extracting(element -> element.toStringCalls).containsExactly(1, 1, 0, 0, 0, 0, 0, 0, 1, 1);
+  }
+
+  @Test
+  void should_format_iterable_up_to_the_maximum_allowed_characters_single_line() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(10);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list("First", "Second", "Third"));
+    // THEN
+    then(formatted).isEqualTo("[\"First\", ...]");
+  }
+
+  @Test
+  void should_format_iterable_up_to_the_maximum_allowed_characters_with_one_element_per_line() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(150);
+    List<String> list = list(stringOfLength(60), stringOfLength(60), stringOfLength(60), stringOfLength(60));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).isEqualTo(format("[\"%s\",%n    \"%s\",%n    \"%s\",%n    ...]",
+                                     stringOfLength(60), stringOfLength(60), stringOfLength(60)));
+  }
+
+  @Test
+  void should_stop_representing_elements_once_the_maximum_allowed_characters_is_reached() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(1_000);
+    List<CountingToString> list = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      list.add(new CountingToString(stringOfLength(100)));
+    }
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(formatted).endsWith("...]");
+    then(list.subList(10, list.size())).allSatisfy(element -> then(element.toStringCalls).isZero());
+  }
+
+  @Test
+  void should_not_truncate_the_element_exceeding_the_maximum_allowed_characters() {
+    // GIVEN
+    StandardRepresentation.setMaxCharactersForPrinting(10);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(list("A Game of Thrones", "The Lord of the Rings"));
+    // THEN
+    then(formatted).isEqualTo("[\"A Game of Thrones\", ...]");
+  }
+
+  @Test
+  void should_use_overridden_single_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String singleLineFormat(Iterable<?> iterable, String start, String end) {
+        return "single line";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(list("First", "Second"));
+    // THEN
+    then(formatted).isEqualTo("single line");
+  }
+
+  @Test
+  void should_use_overridden_multi_line_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String multiLineFormat(Iterable<?> iterable) {
+        return "multi line";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(list(stringOfLength(50), stringOfLength(50)));
+    // THEN
+    then(formatted).isEqualTo("multi line");
+  }
+
+  @Test
+  void should_use_overridden_format() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
+                              Object root) {
+        return "format";
+      }
+    };
+    // WHEN
+    String formatted = representation.toStringOf(list("First", "Second"));
+    // THEN
+    then(formatted).isEqualTo("format");
+  }
+
+  private static class CountingToString {
+    private final String description;
+    private int toStringCalls;
+
+    CountingToString(String description) {
+      this.description = description;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return description;
+    }
+  }
+
   private static String stringOfLength(int length) {
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
@@ -25,6 +25,12 @@ class StandardRepresentation_static_setters_Test extends AbstractBaseRepresentat
                                         .withMessage("maxElementsForPrinting must be >= 1, but was 0");
   }
 
+  @Test
+  void should_fail_on_invalid_maxCharactersForPrinting() {
+    assertThatIllegalArgumentException().isThrownBy(() -> StandardRepresentation.setMaxCharactersForPrinting(0))
+                                        .withMessage("maxCharactersForPrinting must be >= 1, but was 0");
+  }
+
   @Test
   void should_fail_on_invalid_maxLengthForSingleLineDescription() {
     assertThatIllegalArgumentException().isThrownBy(() -> StandardRepresentation.setMaxLengthForSingleLineDescription(0))
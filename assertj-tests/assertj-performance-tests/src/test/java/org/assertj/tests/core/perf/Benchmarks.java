@@ -0,0 +1,44 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of this package with the GC profiler to report allocation rates along with the scores, the results
+ * are saved as JSON to compare them between releases.
+ * <p>
+ * Run all the benchmarks with {@code mvn verify -Pbenchmarks} from this module, the results are written to
+ * {@code target/jmh-result-<version>.json}. Regular JMH command line options can be passed with
+ * {@code -Dbenchmark.args="..."}, for example {@code -Dbenchmark.args="IterablesBenchmark -p size=1000"}.
+ */
+public class Benchmarks {
+
+  private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions)
+                                                        .addProfiler(GCProfiler.class)
+                                                        .resultFormat(ResultFormatType.JSON);
+    if (commandLineOptions.getIncludes().isEmpty()) options.include(Benchmarks.class.getPackage().getName() + ".*Benchmark");
+    if (!commandLineOptions.getResult().hasValue()) options.result(DEFAULT_RESULT_FILE);
+    new Runner(options.build()).run();
+  }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.util.diff.Delta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the text and binary diffs used by the content assertions ({@code hasContent}, {@code hasSameTextualContentAs},
+ * {@code hasBinaryContent} ...) on contents with a few differences.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DiffBenchmark {
+
+  @Param({ "1000", "100000" })
+  int lines;
+
+  private final Diff diff = new Diff();
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  byte[] actual;
+  String expected;
+  byte[] expectedBytes;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    StringBuilder actualBuilder = new StringBuilder();
+    StringBuilder expectedBuilder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      actualBuilder.append("line number ").append(i).append('\n');
+      expectedBuilder.append(i % 100 == 50 ? "other line" : "line number " + i).append('\n');
+    }
+    actual = actualBuilder.toString().getBytes(UTF_8);
+    expected = expectedBuilder.toString();
+    expectedBytes = expected.getBytes(UTF_8);
+  }
+
+  @Benchmark
+  public List<Delta<String>> text_diff() throws IOException {
+    return diff.diff(new ByteArrayInputStream(actual), expected);
+  }
+
+  @Benchmark
+  public BinaryDiffResult binary_diff() throws IOException {
+    return binaryDiff.diff(new ByteArrayInputStream(actual), expectedBytes);
+  }
+
+}
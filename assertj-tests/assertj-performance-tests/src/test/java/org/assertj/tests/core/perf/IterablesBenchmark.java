@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.AbstractListAssert;
+import org.assertj.core.api.ListAssert;
+import org.assertj.core.api.ObjectAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the main {@code Iterable} assertions, the unordered ones must stay O(N) for elements with a consistent hash code
+ * (see <a href="https://github.com/assertj/assertj/issues/1718">assertj/assertj#1718</a> for {@code containsOnly}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterablesBenchmark {
+
+  @Param({ "1000", "100000" })
+  int size;
+
+  List<Boolean> booleans;
+  List<Boolean> lastBooleans;
+  List<Integer> integers;
+  List<Integer> sameIntegers;
+  List<Integer> shuffledIntegers;
+  List<Integer> shuffledIntegersWithDifferences;
+  List<Point> points;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(0);
+    booleans = new ArrayList<>(size);
+    integers = new ArrayList<>(size);
+    points = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      booleans.add(random.nextBoolean());
+      integers.add(i);
+      points.add(new Point(i, -i));
+    }
+    lastBooleans = new ArrayList<>(booleans.subList(size - 1000, size));
+    sameIntegers = new ArrayList<>(integers);
+    shuffledIntegers = new ArrayList<>(integers);
+    Collections.shuffle(shuffledIntegers, random);
+    shuffledIntegersWithDifferences = new ArrayList<>(shuffledIntegers);
+    shuffledIntegersWithDifferences.set(0, -1);
+    shuffledIntegersWithDifferences.set(size - 1, -2);
+  }
+
+  @Benchmark
+  public ListAssert<Boolean> contains_only() {
+    return assertThat(booleans).containsOnly(true, false);
+  }
+
+  @Benchmark
+  public ListAssert<Boolean> contains_only_using_element_comparator() {
+    return assertThat(booleans).usingElementComparator(Boolean::compare)
+                               .containsOnly(true, false);
+  }
+
+  @Benchmark
+  public ListAssert<Boolean> contains_sequence() {
+    return assertThat(booleans).containsSequence(lastBooleans);
+  }
+
+  @Benchmark
+  public ListAssert<Boolean> contains_sequence_using_element_comparator() {
+    return assertThat(booleans).usingElementComparator(Boolean::compare)
+                               .containsSequence(lastBooleans);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> contains_exactly() {
+    return assertThat(integers).containsExactlyElementsOf(sameIntegers);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> contains_exactly_in_any_order() {
+    return assertThat(integers).containsExactlyInAnyOrderElementsOf(shuffledIntegers);
+  }
+
+  @Benchmark
+  public ListAssert<Integer> contains_exactly_in_any_order_using_element_comparator() {
+    return assertThat(integers).usingElementComparator(Integer::compare)
+                               .containsExactlyInAnyOrderElementsOf(shuffledIntegers);
+  }
+
+  @Benchmark
+  public Throwable contains_exactly_in_any_order_failure() {
+    return catchThrowable(() -> assertThat(integers).containsExactlyInAnyOrderElementsOf(shuffledIntegersWithDifferences));
+  }
+
+  @Benchmark
+  public AbstractListAssert<?, List<? extends Object>, Object, ObjectAssert<Object>> extracting_field() {
+    // Point has no getters, each value is read from a field
+    return assertThat(points).extracting("x");
+  }
+
+  static class Point {
+    final int x;
+    final int y;
+
+    Point(int x, int y) {
+      this.x = x;
+      this.y = y;
+    }
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.AbstractStringAssert;
+import org.assertj.core.api.ObjectAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of creating an assert object and running a simple passing assertion, this is what most tests do
+ * (creating the assert object used to sort the default type comparators each time).
+ * <p>
+ * Passing assertions should not allocate anything besides the assert object and its assertion info.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectAssertionsBenchmark {
+
+  Object object = "test";
+  String string = "test";
+  int value = 1234;
+
+  @Benchmark
+  public ObjectAssert<Object> is_not_null() {
+    return assertThat(object).isNotNull();
+  }
+
+  @Benchmark
+  public ObjectAssert<Object> is_equal_to() {
+    return assertThat(object).isEqualTo("test");
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> string_is_equal_to() {
+    return assertThat(string).isEqualTo("test");
+  }
+
+  // the assert objects are not returned so that escape analysis can get rid of them, -prof gc should report ~0 B/op
+  @Benchmark
+  public void int_is_equal_to() {
+    assertThat(value).isEqualTo(1234);
+  }
+
+  @Benchmark
+  public void described_int_is_equal_to() {
+    assertThat(value).as("value %s", "test").isEqualTo(1234);
+  }
+
+}
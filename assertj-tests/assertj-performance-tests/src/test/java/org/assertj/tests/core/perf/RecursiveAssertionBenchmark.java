@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code usingRecursiveAssertion().allFieldsSatisfy(...)} on a balanced tree of nodes (10 children per node),
+ * each node being visited once, and on a wide graph (a list of small trees) asserted sequentially and in parallel.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main RecursiveAssertionBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecursiveAssertionBenchmark {
+
+  @Param({ "10000", "100000" })
+  int size;
+
+  Node root;
+  List<Node> wideGraph;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    // balanced tree where each node has 10 children, node i being the parent of nodes 10 * i + 1 to 10 * i + 10
+    List<Node> nodes = new ArrayList<>(size);
+    root = new Node("root");
+    nodes.add(root);
+    for (int i = 1; i < size; i++) {
+      Node node = new Node("node-" + i);
+      nodes.get((i - 1) / 10).children.add(node);
+      nodes.add(node);
+    }
+    wideGraph = new ArrayList<>();
+    for (int i = 0; i < size / 10; i++) {
+      Node node = new Node("node-" + i);
+      for (int j = 1; j < 10; j++) {
+        node.children.add(new Node("node-" + i + "-" + j));
+      }
+      wideGraph.add(node);
+    }
+  }
+
+  @Benchmark
+  public void all_fields_satisfy() {
+    assertThat(root).usingRecursiveAssertion()
+                    .allFieldsSatisfy(Objects::nonNull);
+  }
+
+  @Benchmark
+  public void wide_graph_all_fields_satisfy() {
+    assertThat(wideGraph).usingRecursiveAssertion()
+                         .allFieldsSatisfy(Objects::nonNull);
+  }
+
+  @Benchmark
+  public void wide_graph_all_fields_satisfy_in_parallel() {
+    assertThat(wideGraph).usingRecursiveAssertion()
+                         .withParallelism(Runtime.getRuntime().availableProcessors())
+                         .allFieldsSatisfy(Objects::nonNull);
+  }
+
+  static class Node {
+    final String name;
+    final List<Node> children = new ArrayList<>();
+
+    Node(String name) {
+      this.name = name;
+    }
+  }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code usingRecursiveComparison().isEqualTo(...)} on deep (linked) and wide (many siblings) object graphs, the
+ * average time per operation should grow linearly with the number of nodes.
+ * <p>
+ * Also measures comparing unordered collections, actual elements must be grouped by hash code once and not for each expected
+ * element, which made the comparison O(N^2) before any element was even compared.
+ * <p>
+ * Run with {@code java -cp <test classpath> org.openjdk.jmh.Main RecursiveComparisonBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecursiveComparisonBenchmark {
+
+  // root -> node1 -> node2 -> ... -> nodeN
+  @State(Scope.Benchmark)
+  public static class DeepGraph {
+
+    @Param({ "100", "200", "400" })
+    int depth;
+
+    Node actual;
+    Node expected;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      actual = chain(depth);
+      expected = chain(depth);
+    }
+
+    private static Node chain(int depth) {
+      Node root = new Node("node-0");
+      Node current = root;
+      for (int i = 1; i < depth; i++) {
+        current.next = new Node("node-" + i);
+        current = current.next;
+      }
+      return root;
+    }
+  }
+
+  // root -> [node1, node2, ..., nodeN]
+  @State(Scope.Benchmark)
+  public static class WideGraph {
+
+    @Param({ "1000", "2000", "4000" })
+    int width;
+
+    Node actual;
+    Node expected;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      actual = siblings(width);
+      expected = siblings(width);
+    }
+
+    private static Node siblings(int width) {
+      Node root = new Node("root");
+      for (int i = 1; i <= width; i++) {
+        root.children.add(new Node("node-" + i));
+      }
+      return root;
+    }
+  }
+
+  // 20k items compared to the same items in a different order
+  @State(Scope.Benchmark)
+  public static class UnorderedItems {
+
+    @Param({ "20000" })
+    int size;
+
+    List<Item> actual;
+    List<Item> expected;
+
+    @Setup(Level.Trial)
+    public void setup() {
+      actual = items(size);
+      expected = items(size);
+      Collections.shuffle(expected, new Random(0));
+    }
+
+    private static List<Item> items(int size) {
+      List<Item> items = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        items.add(new Item(i, "item-" + i));
+      }
+      return items;
+    }
+  }
+
+  @Benchmark
+  public void deep_graph(DeepGraph graph) {
+    assertThat(graph.actual).usingRecursiveComparison().isEqualTo(graph.expected);
+  }
+
+  @Benchmark
+  public void wide_graph(WideGraph graph) {
+    assertThat(graph.actual).usingRecursiveComparison().isEqualTo(graph.expected);
+  }
+
+  // none of the rules match, they all have to be evaluated for each node
+  @Benchmark
+  public void wide_graph_with_many_ignore_rules(WideGraph graph) {
+    assertThat(graph.actual).usingRecursiveComparison()
+                            .ignoringFields(IGNORED_FIELDS)
+                            .ignoringFieldsMatchingRegexes(IGNORED_FIELDS_REGEXES)
+                            .isEqualTo(graph.expected);
+  }
+
+  @Benchmark
+  public void ignoring_collection_order(UnorderedItems items) {
+    assertThat(items.actual).usingRecursiveComparison()
+                            .ignoringCollectionOrder()
+                            .isEqualTo(items.expected);
+  }
+
+  private static final String[] IGNORED_FIELDS = IntStream.range(0, 200)
+                                                          .mapToObj(i -> "children.field" + i)
+                                                          .toArray(String[]::new);
+
+  private static final String[] IGNORED_FIELDS_REGEXES = IntStream.range(0, 50)
+                                                                  .mapToObj(i -> ".*field" + i)
+                                                                  .toArray(String[]::new);
+
+  static class Node {
+    final String name;
+    final List<Node> children = new ArrayList<>();
+    Node next;
+
+    Node(String name) {
+      this.name = name;
+    }
+  }
+
+  static class Item {
+    final int id;
+    final String name;
+
+    Item(int id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Item)) return false;
+      Item item = (Item) o;
+      return id == item.id && Objects.equals(name, item.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, name);
+    }
+  }
+
+}
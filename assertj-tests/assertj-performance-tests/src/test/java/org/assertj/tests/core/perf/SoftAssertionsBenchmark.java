@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.SoftAssertions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures soft assertions, each {@code softly.assertThat(...)} call creates a proxy of the assert object that collects
+ * the assertion errors instead of throwing them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SoftAssertionsBenchmark {
+
+  List<Integer> list = List.of(1, 2, 3);
+  Map<String, Integer> map = Map.of("one", 1, "two", 2);
+
+  @Benchmark
+  public SoftAssertions passing_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(1).isEqualTo(1);
+    softly.assertThat("abc").startsWith("a").endsWith("c");
+    softly.assertThat(list).containsOnly(1, 2, 3);
+    softly.assertThat(map).containsEntry("one", 1);
+    softly.assertAll();
+    return softly;
+  }
+
+  @Benchmark
+  public List<AssertionError> failing_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    softly.assertThat(1).isEqualTo(2);
+    softly.assertThat("abc").startsWith("b").endsWith("c");
+    softly.assertThat(list).containsOnly(1, 2);
+    softly.assertThat(map).containsEntry("one", 2);
+    return softly.assertionErrorsCollected();
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how {@code StandardRepresentation} formats the values used in error messages, above the maximum number of
+ * elements printed (1000 by default), only the first and last elements are formatted.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StandardRepresentationBenchmark {
+
+  @Param({ "10", "10000" })
+  int size;
+
+  List<String> list;
+  Map<String, Integer> map;
+  int[] intArray;
+  Object[] nestedArray;
+  String string;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    list = new ArrayList<>(size);
+    map = new LinkedHashMap<>();
+    intArray = new int[size];
+    nestedArray = new Object[size];
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < size; i++) {
+      list.add("element-" + i);
+      map.put("key-" + i, i);
+      intArray[i] = i;
+      nestedArray[i] = new Object[] { i, "element-" + i };
+      builder.append("line ").append(i).append('\n');
+    }
+    string = builder.toString();
+  }
+
+  @Benchmark
+  public String list() {
+    return STANDARD_REPRESENTATION.toStringOf(list);
+  }
+
+  @Benchmark
+  public String map() {
+    return STANDARD_REPRESENTATION.toStringOf(map);
+  }
+
+  @Benchmark
+  public String int_array() {
+    return STANDARD_REPRESENTATION.toStringOf(intArray);
+  }
+
+  @Benchmark
+  public String nested_array() {
+    return STANDARD_REPRESENTATION.toStringOf(nestedArray);
+  }
+
+  @Benchmark
+  public String string() {
+    return STANDARD_REPRESENTATION.toStringOf(string);
+  }
+
+  @Benchmark
+  public String unambiguous_list() {
+    return STANDARD_REPRESENTATION.unambiguousToStringOf(list);
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2024 the original author or authors.
+ */
+package org.assertj.tests.core.perf;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import org.assertj.core.api.AbstractStringAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the main {@code String} assertions on multi-line strings, including a failing {@code isEqualTo} whose error
+ * message has to be built.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringsBenchmark {
+
+  @Param({ "10", "1000" })
+  int lines;
+
+  String actual;
+  String sameAsActual;
+  String upperCaseActual;
+  String actualWithoutWhitespaces;
+  String differentFromActual;
+  String lastLine;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < lines; i++) {
+      builder.append("line number ").append(i).append('\n');
+    }
+    actual = builder.toString();
+    sameAsActual = new String(actual.toCharArray());
+    upperCaseActual = actual.toUpperCase();
+    actualWithoutWhitespaces = actual.replaceAll("\\s", "");
+    differentFromActual = actual.replace("line number " + (lines / 2), "other line");
+    lastLine = "line number " + (lines - 1);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> is_equal_to() {
+    return assertThat(actual).isEqualTo(sameAsActual);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> is_equal_to_ignoring_case() {
+    return assertThat(actual).isEqualToIgnoringCase(upperCaseActual);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> is_equal_to_ignoring_whitespace() {
+    return assertThat(actual).isEqualToIgnoringWhitespace(actualWithoutWhitespaces);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> contains() {
+    return assertThat(actual).contains(lastLine);
+  }
+
+  @Benchmark
+  public AbstractStringAssert<?> contains_ignoring_case() {
+    return assertThat(upperCaseActual).containsIgnoringCase(lastLine);
+  }
+
+  @Benchmark
+  public Throwable is_equal_to_failure() {
+    return catchThrowable(() -> assertThat(actual).isEqualTo(differentFromActual));
+  }
+
+}